@@ -13,6 +13,7 @@ import au.com.dius.pact.consumer.junit5.PactTestFor;
 import au.com.dius.pact.core.model.RequestResponsePact;
 import au.com.dius.pact.core.model.annotations.Pact;
 import au.com.dius.pact.core.model.annotations.PactFolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,8 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.iacaseapi.domain.UserDetailsProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ref.OrganisationEntityResponse;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.SystemDateProvider;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.ProfessionalRefDataCache;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.ProfessionalOrganisationRetriever;
 
 @ExtendWith(SpringExtension.class)
@@ -60,7 +63,8 @@ public class ProfessionalOrganisationConsumerTest {
     @BeforeEach
     public void setUpTest() {
         professionalOrganisationRetriever =
-            new ProfessionalOrganisationRetriever(new RestTemplate(), serviceAuthTokenGenerator, userDetailsProvider, refDataApiUrl, refDataApiPath);
+            new ProfessionalOrganisationRetriever(new RestTemplate(), serviceAuthTokenGenerator, userDetailsProvider, refDataApiUrl, refDataApiPath,
+                new ProfessionalRefDataCache(0, 0, 1, new SystemDateProvider(), new SimpleMeterRegistry()));
         when(serviceAuthTokenGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
 
         when(userDetailsProvider.getUserDetails()).thenReturn(userDetails);
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AppealType;
+
+/*
+Measures how many appeal reference numbers are generated per second under concurrent submissions, against an
+in-memory database in Postgres mode migrated with the application's own scripts. Runs without the Spring context.
+*/
+@Slf4j
+class DbAppealReferenceNumberGeneratorBenchmarkTest {
+
+    private static final int SUBMISSIONS = 5000;
+    private static final int CONCURRENT_SUBMITTERS = 32;
+
+    private DriverManagerDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:appeal_reference_benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+            "sa",
+            ""
+        );
+
+        Flyway.configure()
+            .dataSource(dataSource)
+            .schemas("ia_case_api")
+            .load()
+            .migrate();
+
+        new JdbcTemplate(dataSource).execute("DELETE FROM ia_case_api.appeal_reference_numbers WHERE case_id NOT IN (-1, -2);");
+        new JdbcTemplate(dataSource).execute("DELETE FROM ia_case_api.appeal_reference_sequences;");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50})
+    void should_generate_distinct_numbers_for_concurrent_submissions(int blockSize) throws Exception {
+
+        DbAppealReferenceNumberGenerator dbAppealReferenceNumberGenerator =
+            new DbAppealReferenceNumberGenerator(
+                50000,
+                blockSize,
+                new FixedDateProvider(LocalDate.of(2018, 12, 31)),
+                new NamedParameterJdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                60,
+                SUBMISSIONS,
+                new SimpleMeterRegistry()
+            );
+
+        long startedAt = System.nanoTime();
+
+        Set<String> appealReferenceNumbers =
+            new ForkJoinPool(CONCURRENT_SUBMITTERS)
+                .submit(() ->
+                    LongStream.rangeClosed(1, SUBMISSIONS)
+                        .parallel()
+                        .mapToObj(caseId -> dbAppealReferenceNumberGenerator.generate(caseId, AppealType.PA))
+                        .collect(Collectors.toSet())
+                ).get();
+
+        long elapsedInMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        log.info(
+            "Generated {} appeal reference numbers from {} submitters with block size {} in {}ms ({} per second)",
+            SUBMISSIONS,
+            CONCURRENT_SUBMITTERS,
+            blockSize,
+            elapsedInMillis,
+            SUBMISSIONS * 1000L / elapsedInMillis
+        );
+
+        assertThat(appealReferenceNumbers).hasSize(SUBMISSIONS);
+        assertThat(appealReferenceNumbers).allMatch(number -> number.startsWith("PA/") && number.endsWith("/2018"));
+    }
+
+    private static class FixedDateProvider implements DateProvider {
+
+        private final LocalDate date;
+
+        FixedDateProvider(LocalDate date) {
+            this.date = date;
+        }
+
+        @Override
+        public LocalDate now() {
+            return date;
+        }
+
+        @Override
+        public LocalDateTime nowWithTime() {
+            return date.atStartOfDay();
+        }
+    }
+}
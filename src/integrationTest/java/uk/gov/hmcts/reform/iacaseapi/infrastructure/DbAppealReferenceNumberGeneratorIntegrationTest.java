@@ -201,5 +201,6 @@ public class DbAppealReferenceNumberGeneratorIntegrationTest extends SpringBootI
 
     private void deleteAnyTestAppealReferenceNumbers() {
         jdbcTemplate.execute("DELETE FROM ia_case_api.appeal_reference_numbers WHERE case_id NOT IN (-1, -2);");
+        jdbcTemplate.execute("DELETE FROM ia_case_api.appeal_reference_sequences;");
     }
 }
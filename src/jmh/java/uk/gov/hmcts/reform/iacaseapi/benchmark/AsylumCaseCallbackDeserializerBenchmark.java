@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.iacaseapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization.AsylumCaseCallbackDeserializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsylumCaseCallbackDeserializerBenchmark {
+
+    @Param({"SMALL", "MEDIAN", "LARGE"})
+    public CallbackPayloads.Size size;
+
+    private AsylumCaseCallbackDeserializer deserializer;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        deserializer = new AsylumCaseCallbackDeserializer(CallbackPayloads.objectMapper());
+        payload = CallbackPayloads.callback(Event.SUBMIT_APPEAL, size);
+    }
+
+    @Benchmark
+    public Callback<AsylumCase> deserialize() {
+        return deserializer.deserialize(payload);
+    }
+}
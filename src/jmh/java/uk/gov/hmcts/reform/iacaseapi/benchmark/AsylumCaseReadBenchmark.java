@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.iacaseapi.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization.AsylumCaseCallbackDeserializer;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AsylumCaseReadBenchmark {
+
+    @Param({"SMALL", "MEDIAN", "LARGE"})
+    public CallbackPayloads.Size size;
+
+    @Param({"JOURNEY_TYPE", "APPEAL_TYPE", "APPELLANT_NATIONALITIES", "LEGAL_REPRESENTATIVE_DOCUMENTS", "DIRECTIONS"})
+    public AsylumCaseFieldDefinition field;
+
+    private AsylumCase asylumCase;
+    private Object rawValue;
+
+    @Setup
+    public void setUp() {
+        asylumCase = new AsylumCaseCallbackDeserializer(CallbackPayloads.objectMapper())
+            .deserialize(CallbackPayloads.callback(Event.SUBMIT_APPEAL, size))
+            .getCaseDetails()
+            .getCaseData();
+        rawValue = asylumCase.get(field.value());
+    }
+
+    @Benchmark
+    public Optional<Object> readRepeated() {
+        return asylumCase.read(field);
+    }
+
+    @Benchmark
+    public Optional<Object> readAfterUpdate() {
+        // putting the raw value back discards any converted value held for the field
+        asylumCase.put(field.value(), rawValue);
+        return asylumCase.read(field);
+    }
+}
@@ -0,0 +1,219 @@
+package uk.gov.hmcts.reform.iacaseapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.JacksonConfiguration;
+
+/*
+Builds CCD callback request bodies for the benchmarks. Payloads are generated from a fixed seed,
+so every run and every fork benchmarks exactly the same bytes. Each size sets how many entries
+go into every document collection, the directions and the case notes.
+*/
+public final class CallbackPayloads {
+
+    public enum Size {
+
+        SMALL(3),
+        MEDIAN(40),
+        LARGE(600);
+
+        private final int collectionSize;
+
+        Size(int collectionSize) {
+            this.collectionSize = collectionSize;
+        }
+
+        public int getCollectionSize() {
+            return collectionSize;
+        }
+    }
+
+    private static final String[] DOCUMENT_COLLECTIONS = {
+        "legalRepresentativeDocuments",
+        "respondentDocuments",
+        "hearingDocuments",
+        "additionalEvidenceDocuments",
+        "tribunalDocuments"
+    };
+
+    private static final String[] DOCUMENT_TAGS = {
+        "caseArgument",
+        "respondentEvidence",
+        "appealResponse",
+        "additionalEvidence",
+        "hearingBundle"
+    };
+
+    private CallbackPayloads() {
+        // utility class
+    }
+
+    public static ObjectMapper objectMapper() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        return jacksonConfiguration.objectMapper(jacksonConfiguration.jackson2ObjectMapperBuilder());
+    }
+
+    public static String callback(Event event, Size size) {
+
+        State state = stateBefore(event);
+
+        Map<String, Object> caseDetails = caseDetails(state, caseData(size));
+
+        Map<String, Object> callback = new LinkedHashMap<>();
+        callback.put("case_details", caseDetails);
+        callback.put("case_details_before", caseDetails(state, caseData(size)));
+        callback.put("event_id", event.toString());
+
+        try {
+            return objectMapper().writeValueAsString(callback);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not generate callback payload", e);
+        }
+    }
+
+    public static Map<String, Object> caseData(Size size) {
+
+        Random random = new Random(size.ordinal());
+
+        Map<String, Object> caseData = new LinkedHashMap<>();
+        caseData.put("journeyType", "rep");
+        caseData.put("appealType", "protection");
+        caseData.put("appealReferenceNumber", "PA/50001/2023");
+        caseData.put("homeOfficeReferenceNumber", "123456789");
+        caseData.put("homeOfficeDecisionDate", "2023-01-10");
+        caseData.put("appellantTitle", "Mr");
+        caseData.put("appellantGivenNames", "Talha");
+        caseData.put("appellantFamilyName", "Awan");
+        caseData.put("appellantDateOfBirth", "1990-01-01");
+        caseData.put("appellantNationalities", List.of(idValue("1", Map.of("code", "IS"))));
+        caseData.put("appellantHasFixedAddress", "Yes");
+        caseData.put("appellantAddress", Map.of(
+            "AddressLine1", "45 Lunar House",
+            "PostTown", "Croydon",
+            "PostCode", "CR0 2BY",
+            "Country", "United Kingdom"
+        ));
+        caseData.put("contactPreference", "wantsEmail");
+        caseData.put("email", "appellant@example.com");
+        caseData.put("appealGroundsForDisplay", List.of("protectionRefugeeConvention", "protectionHumanRights"));
+        caseData.put("hasNewMatters", "No");
+        caseData.put("hasOtherAppeals", "No");
+        caseData.put("hearingCentre", "taylorHouse");
+        caseData.put("submissionOutOfTime", "No");
+        caseData.put("legalRepresentativeName", "A Legal Rep");
+        caseData.put("legalRepresentativeEmailAddress", "legalrep@example.com");
+        caseData.put("legalRepCompany", "A Law Firm");
+        caseData.put("sendDirectionActionAvailable", "Yes");
+
+        for (String collection : DOCUMENT_COLLECTIONS) {
+            caseData.put(collection, documents(collection, size.getCollectionSize(), random));
+        }
+
+        caseData.put("directions", directions(size.getCollectionSize(), random));
+        caseData.put("caseNotes", caseNotes(size.getCollectionSize(), random));
+
+        return caseData;
+    }
+
+    private static State stateBefore(Event event) {
+
+        switch (event) {
+            case SUBMIT_APPEAL:
+                return State.APPEAL_STARTED;
+            case BUILD_CASE:
+                return State.CASE_BUILDING;
+            default:
+                return State.RESPONDENT_REVIEW;
+        }
+    }
+
+    private static Map<String, Object> caseDetails(State state, Map<String, Object> caseData) {
+
+        Map<String, Object> caseDetails = new LinkedHashMap<>();
+        caseDetails.put("id", 1623325235613765L);
+        caseDetails.put("jurisdiction", "IA");
+        caseDetails.put("state", state.toString());
+        caseDetails.put("case_data", caseData);
+        caseDetails.put("created_date", "2023-01-10T10:15:30");
+        caseDetails.put("security_classification", "PUBLIC");
+        return caseDetails;
+    }
+
+    private static List<Map<String, Object>> documents(String collection, int count, Random random) {
+
+        List<Map<String, Object>> documents = new ArrayList<>(count);
+
+        for (int i = count; i > 0; i--) {
+
+            String documentId = Long.toHexString(random.nextLong());
+
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("document_url", "http://dm-store:8080/documents/" + documentId);
+            document.put("document_binary_url", "http://dm-store:8080/documents/" + documentId + "/binary");
+            document.put("document_filename", collection + "-" + i + ".pdf");
+
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("document", document);
+            value.put("description", "Document " + i + " uploaded to " + collection);
+            value.put("dateUploaded", "2023-02-" + String.format("%02d", 1 + random.nextInt(28)));
+            value.put("tag", DOCUMENT_TAGS[random.nextInt(DOCUMENT_TAGS.length)]);
+
+            documents.add(idValue(String.valueOf(i), value));
+        }
+
+        return documents;
+    }
+
+    private static List<Map<String, Object>> directions(int count, Random random) {
+
+        List<Map<String, Object>> directions = new ArrayList<>(count);
+
+        for (int i = count; i > 0; i--) {
+
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("explanation", "You must upload the appeal skeleton argument " + random.nextInt());
+            value.put("parties", "legalRepresentative");
+            value.put("dateDue", "2023-03-" + String.format("%02d", 1 + random.nextInt(28)));
+            value.put("dateSent", "2023-02-" + String.format("%02d", 1 + random.nextInt(28)));
+            value.put("tag", "buildCase");
+            value.put("previousDates", List.of());
+
+            directions.add(idValue(String.valueOf(i), value));
+        }
+
+        return directions;
+    }
+
+    private static List<Map<String, Object>> caseNotes(int count, Random random) {
+
+        List<Map<String, Object>> caseNotes = new ArrayList<>(count);
+
+        for (int i = count; i > 0; i--) {
+
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("caseNoteSubject", "Case note " + i);
+            value.put("caseNoteDescription", "Case note description " + Long.toHexString(random.nextLong()));
+            value.put("user", "Tribunal Caseworker");
+            value.put("dateAdded", "2023-02-" + String.format("%02d", 1 + random.nextInt(28)));
+
+            caseNotes.add(idValue(String.valueOf(i), value));
+        }
+
+        return caseNotes;
+    }
+
+    private static Map<String, Object> idValue(String id, Object value) {
+
+        Map<String, Object> idValue = new LinkedHashMap<>();
+        idValue.put("id", id);
+        idValue.put("value", value);
+        return idValue;
+    }
+}
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.iacaseapi.benchmark;
+
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPEAL_TYPE;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.JOURNEY_TYPE;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.LEGAL_REPRESENTATIVE_DOCUMENTS;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.DispatchPriority;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacaseapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.CallbackHandlerMetrics;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.PreSubmitCallbackDispatcher;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.eventvalidation.EventValidCheckers;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization.AsylumCaseCallbackDeserializer;
+
+/*
+Measures the cost of dispatching one about-to-submit callback, without the work done by real handlers.
+The production handlers need the Spring context and the downstream services, so the dispatcher is given
+a handler population shaped like production instead: most handlers declare a single event and stage,
+the rest decide in canHandle, and every handler that runs reads a few fields and writes one.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreSubmitCallbackDispatcherBenchmark {
+
+    private static final int DECLARED_HANDLERS = 160;
+    private static final int UNDECLARED_HANDLERS = 30;
+    private static final int HANDLERS_PER_BENCHMARKED_EVENT = 12;
+    private static final List<Event> BENCHMARKED_EVENTS =
+        Arrays.asList(Event.SUBMIT_APPEAL, Event.BUILD_CASE, Event.EDIT_DOCUMENTS);
+
+    @Param({"SUBMIT_APPEAL", "BUILD_CASE", "EDIT_DOCUMENTS"})
+    public Event event;
+
+    @Param({"SMALL", "MEDIAN", "LARGE"})
+    public CallbackPayloads.Size size;
+
+    private PreSubmitCallbackDispatcher<AsylumCase> dispatcher;
+    private Callback<AsylumCase> callback;
+
+    @Setup
+    public void setUp() {
+
+        CcdEventAuthorizor ccdEventAuthorizor = new CcdEventAuthorizor(
+            Map.of("caseworker-ia-legalrep-solicitor", Arrays.asList(Event.values())),
+            () -> Set.of("caseworker-ia-legalrep-solicitor")
+        );
+
+        dispatcher = new PreSubmitCallbackDispatcher<>(
+            ccdEventAuthorizor,
+            handlers(),
+            new EventValidCheckers<>(Collections.emptyList()),
+            Collections.emptyList(),
+            new CallbackHandlerMetrics(new SimpleMeterRegistry())
+        );
+
+        callback = new AsylumCaseCallbackDeserializer(CallbackPayloads.objectMapper())
+            .deserialize(CallbackPayloads.callback(event, size));
+    }
+
+    @Benchmark
+    public PreSubmitCallbackResponse<AsylumCase> handle() {
+        return dispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+    }
+
+    private static List<PreSubmitCallbackHandler<AsylumCase>> handlers() {
+
+        Random random = new Random(0);
+        Event[] events = Event.values();
+        PreSubmitCallbackStage[] callbackStages = PreSubmitCallbackStage.values();
+        DispatchPriority[] dispatchPriorities = DispatchPriority.values();
+
+        List<PreSubmitCallbackHandler<AsylumCase>> handlers = new ArrayList<>();
+
+        for (Event benchmarkedEvent : BENCHMARKED_EVENTS) {
+            for (int i = 0; i < HANDLERS_PER_BENCHMARKED_EVENT; i++) {
+                handlers.add(new SyntheticHandler(
+                    PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+                    benchmarkedEvent,
+                    true,
+                    dispatchPriorities[random.nextInt(dispatchPriorities.length)]
+                ));
+            }
+        }
+
+        while (handlers.size() < DECLARED_HANDLERS) {
+            handlers.add(new SyntheticHandler(
+                callbackStages[random.nextInt(callbackStages.length)],
+                events[random.nextInt(events.length)],
+                true,
+                dispatchPriorities[random.nextInt(dispatchPriorities.length)]
+            ));
+        }
+
+        for (int i = 0; i < UNDECLARED_HANDLERS; i++) {
+            handlers.add(new SyntheticHandler(
+                callbackStages[random.nextInt(callbackStages.length)],
+                events[random.nextInt(events.length)],
+                false,
+                dispatchPriorities[random.nextInt(dispatchPriorities.length)]
+            ));
+        }
+
+        return handlers;
+    }
+
+    private static final class SyntheticHandler implements PreSubmitCallbackHandler<AsylumCase> {
+
+        private final PreSubmitCallbackStage callbackStage;
+        private final Event event;
+        private final boolean declared;
+        private final DispatchPriority dispatchPriority;
+
+        private SyntheticHandler(
+            PreSubmitCallbackStage callbackStage,
+            Event event,
+            boolean declared,
+            DispatchPriority dispatchPriority
+        ) {
+            this.callbackStage = callbackStage;
+            this.event = event;
+            this.declared = declared;
+            this.dispatchPriority = dispatchPriority;
+        }
+
+        @Override
+        public Set<PreSubmitCallbackStage> getHandledStages() {
+            return declared ? Set.of(callbackStage) : Collections.emptySet();
+        }
+
+        @Override
+        public Set<Event> getHandledEvents() {
+            return declared ? Set.of(event) : Collections.emptySet();
+        }
+
+        @Override
+        public DispatchPriority getDispatchPriority() {
+            return dispatchPriority;
+        }
+
+        @Override
+        public boolean canHandle(PreSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
+            return callbackStage == this.callbackStage && callback.getEvent() == event;
+        }
+
+        @Override
+        public PreSubmitCallbackResponse<AsylumCase> handle(PreSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
+
+            AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
+
+            asylumCase.read(JOURNEY_TYPE);
+            asylumCase.read(APPEAL_TYPE);
+            asylumCase.read(LEGAL_REPRESENTATIVE_DOCUMENTS);
+            asylumCase.write(JOURNEY_TYPE, "rep");
+
+            return new PreSubmitCallbackResponse<>(asylumCase);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.iacaseapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization.AsylumCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization.StdSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StdSerializerBenchmark {
+
+    @Param({"SMALL", "MEDIAN", "LARGE"})
+    public CallbackPayloads.Size size;
+
+    private StdSerializer<PreSubmitCallbackResponse<AsylumCase>> serializer;
+    private PreSubmitCallbackResponse<AsylumCase> response;
+
+    @Setup
+    public void setUp() {
+        serializer = new StdSerializer<>(CallbackPayloads.objectMapper());
+        response = new PreSubmitCallbackResponse<>(
+            new AsylumCaseCallbackDeserializer(CallbackPayloads.objectMapper())
+                .deserialize(CallbackPayloads.callback(Event.SUBMIT_APPEAL, size))
+                .getCaseDetails()
+                .getCaseData()
+        );
+    }
+
+    @Benchmark
+    public String serialize() {
+        return serializer.serialize(response);
+    }
+}
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum AppealDecision {
@@ -9,6 +7,8 @@ public enum AppealDecision {
     ALLOWED("allowed"),
     DISMISSED("dismissed");
 
+    private static final EnumIndex<String, AppealDecision> BY_VALUE = EnumIndex.of(values(), AppealDecision::getValue);
+
     @JsonValue
     private String value;
 
@@ -17,9 +17,7 @@ public enum AppealDecision {
     }
 
     public static AppealDecision from(String value) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst()
+        return BY_VALUE.find(value)
             .orElseThrow(() -> new IllegalArgumentException(value + " not an AppealDecision"));
     }
 
@@ -1,13 +1,13 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum AppealStatus {
 
     REINSTATED("Reinstated");
 
+    private static final EnumIndex<String, AppealStatus> BY_VALUE = EnumIndex.of(values(), AppealStatus::getValue);
+
     @JsonValue
     private String value;
 
@@ -16,9 +16,7 @@ public enum AppealStatus {
     }
 
     public static AppealStatus from(String value) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst()
+        return BY_VALUE.find(value)
             .orElseThrow(() -> new IllegalArgumentException(value + " not an AppealStatus"));
     }
 
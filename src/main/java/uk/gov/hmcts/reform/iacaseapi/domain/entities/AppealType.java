@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Optional;
 
@@ -14,6 +12,8 @@ public enum AppealType {
     DC("deprivation", "Deprivation of citizenship"),
     EU("euSettlementScheme", "EU Settlement Scheme");
 
+    private static final EnumIndex<String, AppealType> BY_VALUE = EnumIndex.of(values(), AppealType::getValue);
+
     @JsonValue
     private String value;
 
@@ -27,9 +27,7 @@ public enum AppealType {
     public static Optional<AppealType> from(
         String value
     ) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst();
+        return BY_VALUE.find(value);
     }
 
     public String getValue() {
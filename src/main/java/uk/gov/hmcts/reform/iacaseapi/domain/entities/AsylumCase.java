@@ -1,18 +1,50 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseData;
 
 public class AsylumCase extends HashMap<String, Object> implements CaseData {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    static final Object ABSENT = new Object();
 
-    public AsylumCase() {
-        objectMapper.registerModule(new Jdk8Module());
-    }
+    /*
+    Values that are not deferred are converted with a plain mapper and field types resolved once. Deferred values,
+    such as buffered JSON, bind themselves, so the entity needs no converter to be installed from outside.
+    */
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    private static final Map<AsylumCaseFieldDefinition, JavaType> JAVA_TYPES = resolveJavaTypes();
+
+    /*
+    Converted values are memoized per field definition together with the raw value they were converted from.
+    put and remove drop the entry of the field they write, looked up by key. An entry is also only used while the
+    raw value held in the map is still the same instance, which covers the paths that are not intercepted here.
+    Lists are handed out as a fresh copy on every read, as callers commonly add to, remove from or clear a list
+    they have read. Other values, and the elements of lists, are the same instances until the field is written,
+    so they must not be modified in place unless they are then written back; otherwise later reads see changes
+    the case data does not.
+    */
+    private transient Map<AsylumCaseFieldDefinition, TypedValue> typedValues;
+
+    /*
+    Once a snapshot is taken or changes are tracked, every put, remove and clear appends the key and the value it
+    replaced to a journal. A snapshot is just a position in that journal, so taking one is O(1) and reading through
+    it only replays entries written after it. Values are held by reference rather than copied, so a value mutated in
+    place looks the same in the case and in its snapshots. compute, merge and replace style methods are not journaled.
+    */
+    private transient List<JournalEntry> journal;
+    private transient AsylumCaseSnapshot trackedSince;
 
     public <T> Optional<T> read(AsylumCaseFieldDefinition extractor, Class<T> type) {
         return this.read(extractor);
@@ -33,9 +65,20 @@ public class AsylumCase extends HashMap<String, Object> implements CaseData {
             return Optional.empty();
         }
 
-        Object value = objectMapper.convertValue(o, extractor.getTypeReference());
+        if (typedValues == null) {
+            typedValues = new EnumMap<>(AsylumCaseFieldDefinition.class);
+        }
+
+        TypedValue typedValue = typedValues.get(extractor);
+
+        if (typedValue == null || typedValue.raw != o) {
+            typedValue = new TypedValue(o, convert(extractor, o));
+            typedValues.put(extractor, typedValue);
+        }
 
-        return Optional.of((T) value);
+        return Optional.of((T) (typedValue.converted instanceof List
+            ? new ArrayList<>((List<?>) typedValue.converted)
+            : typedValue.converted));
     }
 
     public <T> void write(AsylumCaseFieldDefinition extractor, T value) {
@@ -45,4 +88,173 @@ public class AsylumCase extends HashMap<String, Object> implements CaseData {
     public void clear(AsylumCaseFieldDefinition extractor) {
         this.put(extractor.value(), null);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void clear() {
+        if (typedValues != null) {
+            typedValues.clear();
+        }
+        if (journal != null) {
+            forEach((key, value) -> journal.add(new JournalEntry(key, value)));
+        }
+        super.clear();
+    }
+
+    public AsylumCaseSnapshot snapshot() {
+        if (journal == null) {
+            journal = new ArrayList<>();
+        }
+        return new AsylumCaseSnapshot(this, journal.size());
+    }
+
+    public void trackChanges() {
+        trackedSince = snapshot();
+    }
+
+    public boolean isTrackingChanges() {
+        return trackedSince != null;
+    }
+
+    public Map<String, AsylumCaseChange> getChanges() {
+        return trackedSince == null ? Collections.emptyMap() : trackedSince.getChanges();
+    }
+
+    public Set<String> getChangedKeys() {
+        return getChanges().keySet();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        invalidate(key);
+        if (journal != null) {
+            journal.add(new JournalEntry(key, containsKey(key) ? get(key) : ABSENT));
+        }
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> values) {
+        if (journal == null) {
+            super.putAll(values);
+        } else {
+            values.forEach(this::put);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String) {
+            invalidate((String) key);
+        }
+        if (journal != null && containsKey(key)) {
+            journal.add(new JournalEntry((String) key, get(key)));
+        }
+        return super.remove(key);
+    }
+
+    Object rawValueAt(int position, String key) {
+
+        for (int i = position; i < journal.size(); i++) {
+            JournalEntry entry = journal.get(i);
+            if (entry.key.equals(key)) {
+                return entry.previous;
+            }
+        }
+
+        return containsKey(key) ? get(key) : ABSENT;
+    }
+
+    AsylumCase copyAt(int position) {
+
+        AsylumCase copy = new AsylumCase();
+        copy.putAll(this);
+
+        previousValuesSince(position).forEach((key, previous) -> {
+            if (previous == ABSENT) {
+                copy.remove(key);
+            } else {
+                copy.put(key, previous);
+            }
+        });
+
+        return copy;
+    }
+
+    Map<String, AsylumCaseChange> changesSince(int position) {
+
+        Map<String, AsylumCaseChange> changes = new LinkedHashMap<>();
+
+        previousValuesSince(position).forEach((key, previous) -> {
+            Object value = containsKey(key) ? get(key) : ABSENT;
+            AsylumCaseChange.between(key, unwrap(previous), unwrap(value)).ifPresent(change -> changes.put(key, change));
+        });
+
+        return Collections.unmodifiableMap(changes);
+    }
+
+    static Object convert(AsylumCaseFieldDefinition extractor, Object rawValue) {
+        if (rawValue instanceof DeferredFieldValue) {
+            return ((DeferredFieldValue) rawValue).bind(extractor);
+        }
+
+        return MAPPER.convertValue(rawValue, JAVA_TYPES.get(extractor));
+    }
+
+    private static Map<AsylumCaseFieldDefinition, JavaType> resolveJavaTypes() {
+
+        Map<AsylumCaseFieldDefinition, JavaType> javaTypes = new EnumMap<>(AsylumCaseFieldDefinition.class);
+
+        for (AsylumCaseFieldDefinition fieldDefinition : AsylumCaseFieldDefinition.values()) {
+            javaTypes.put(fieldDefinition, MAPPER.getTypeFactory().constructType(fieldDefinition.getTypeReference()));
+        }
+
+        return Collections.unmodifiableMap(javaTypes);
+    }
+
+    static Object unwrap(Object rawValue) {
+        return rawValue == ABSENT ? null : rawValue;
+    }
+
+    private Map<String, Object> previousValuesSince(int position) {
+
+        Map<String, Object> previousValues = new LinkedHashMap<>();
+
+        for (int i = position; i < journal.size(); i++) {
+            JournalEntry entry = journal.get(i);
+            previousValues.putIfAbsent(entry.key, entry.previous);
+        }
+
+        return previousValues;
+    }
+
+    private void invalidate(String key) {
+        if (typedValues != null && !typedValues.isEmpty()) {
+            Optional<AsylumCaseFieldDefinition> fieldDefinition = AsylumCaseFieldDefinition.from(key);
+            if (fieldDefinition.isPresent()) {
+                typedValues.remove(fieldDefinition.get());
+            }
+        }
+    }
+
+    private static final class JournalEntry {
+
+        private final String key;
+        private final Object previous;
+
+        private JournalEntry(String key, Object previous) {
+            this.key = key;
+            this.previous = previous;
+        }
+    }
+
+    private static final class TypedValue {
+
+        private final Object raw;
+        private final Object converted;
+
+        private TypedValue(Object raw, Object converted) {
+            this.raw = raw;
+            this.converted = converted;
+        }
+    }
+}
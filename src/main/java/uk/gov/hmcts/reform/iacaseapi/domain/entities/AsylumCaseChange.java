@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/*
+A field written since a snapshot, with references to the raw value it had then and the raw value it has now.
+A field that was written but holds a value either way is reported as modified, even if the value is equal.
+*/
+@EqualsAndHashCode
+@ToString
+public final class AsylumCaseChange {
+
+    public enum Type {
+        ADDED,
+        MODIFIED,
+        CLEARED
+    }
+
+    private final String key;
+    private final Type type;
+    private final Object previousValue;
+    private final Object value;
+
+    private AsylumCaseChange(String key, Type type, Object previousValue, Object value) {
+        this.key = requireNonNull(key);
+        this.type = requireNonNull(type);
+        this.previousValue = previousValue;
+        this.value = value;
+    }
+
+    static Optional<AsylumCaseChange> between(String key, Object previousValue, Object value) {
+
+        if (previousValue == null && value == null) {
+            return Optional.empty();
+        }
+
+        if (previousValue == null) {
+            return Optional.of(new AsylumCaseChange(key, Type.ADDED, null, value));
+        }
+
+        if (value == null) {
+            return Optional.of(new AsylumCaseChange(key, Type.CLEARED, previousValue, null));
+        }
+
+        return Optional.of(new AsylumCaseChange(key, Type.MODIFIED, previousValue, value));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Object getPreviousValue() {
+        return previousValue;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
+import java.util.Optional;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CheckValues;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.HoursAndMinutes;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.NationalityFieldValue;
@@ -1587,6 +1588,9 @@ public enum AsylumCaseFieldDefinition {
     S94B_STATUS(
         "s94bStatus", new TypeReference<YesOrNo>(){});
 
+    private static final EnumIndex<String, AsylumCaseFieldDefinition> BY_VALUE =
+        EnumIndex.of(values(), AsylumCaseFieldDefinition::value);
+
     private final String value;
     private final TypeReference typeReference;
 
@@ -1595,6 +1599,10 @@ public enum AsylumCaseFieldDefinition {
         this.typeReference = typeReference;
     }
 
+    public static Optional<AsylumCaseFieldDefinition> from(String value) {
+        return BY_VALUE.find(value);
+    }
+
     public String value() {
         return value;
     }
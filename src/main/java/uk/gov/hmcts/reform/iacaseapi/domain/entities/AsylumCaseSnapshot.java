@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+
+/*
+Read-only view of an AsylumCase as it was when AsylumCase.snapshot() was called.
+Nothing is copied up front; values written since are looked up in the case's journal when read.
+*/
+public final class AsylumCaseSnapshot {
+
+    private final AsylumCase asylumCase;
+    private final int position;
+
+    AsylumCaseSnapshot(AsylumCase asylumCase, int position) {
+        this.asylumCase = requireNonNull(asylumCase);
+        this.position = position;
+    }
+
+    public Object get(String key) {
+        return AsylumCase.unwrap(asylumCase.rawValueAt(position, key));
+    }
+
+    public boolean containsKey(String key) {
+        return asylumCase.rawValueAt(position, key) != AsylumCase.ABSENT;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> read(AsylumCaseFieldDefinition extractor) {
+
+        Object o = get(extractor.value());
+
+        if (o == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of((T) AsylumCase.convert(extractor, o));
+    }
+
+    public Map<String, AsylumCaseChange> getChanges() {
+        return asylumCase.changesSince(position);
+    }
+
+    public AsylumCase toAsylumCase() {
+        return asylumCase.copyAt(position);
+    }
+}
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Optional;
 
@@ -10,6 +8,8 @@ public enum ContactPreference {
     WANTS_EMAIL("wantsEmail", "Email"),
     WANTS_SMS("wantsSms", "Text message");
 
+    private static final EnumIndex<String, ContactPreference> BY_VALUE = EnumIndex.of(values(), ContactPreference::getValue);
+
     @JsonValue
     private String value;
 
@@ -23,9 +23,7 @@ public enum ContactPreference {
     public static Optional<ContactPreference> from(
         String value
     ) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst();
+        return BY_VALUE.find(value);
     }
 
     public String getValue() {
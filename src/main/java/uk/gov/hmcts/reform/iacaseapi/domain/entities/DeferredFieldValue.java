@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+/*
+Raw case data value that binds itself to the type of its field definition when read, such as one still held as
+the JSON it was read from.
+*/
+public interface DeferredFieldValue {
+
+    Object bind(AsylumCaseFieldDefinition fieldDefinition);
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+Immutable index of enum constants by a key such as their value, built once when the enum is initialised so that
+lookups neither copy values() nor scan it. Where two constants share a key the first declared one is found.
+*/
+public final class EnumIndex<K, E extends Enum<E>> {
+
+    private final Map<K, E> constantsByKey;
+
+    private EnumIndex(Map<K, E> constantsByKey) {
+        this.constantsByKey = constantsByKey;
+    }
+
+    public static <K, E extends Enum<E>> EnumIndex<K, E> of(
+        E[] constants,
+        Function<E, K> key
+    ) {
+        requireNonNull(constants, "constants must not be null");
+        requireNonNull(key, "key must not be null");
+
+        Map<K, E> constantsByKey = new HashMap<>();
+
+        for (E constant : constants) {
+            constantsByKey.putIfAbsent(key.apply(constant), constant);
+        }
+
+        return new EnumIndex<>(Collections.unmodifiableMap(constantsByKey));
+    }
+
+    public Optional<E> find(K key) {
+        return Optional.ofNullable(constantsByKey.get(key));
+    }
+}
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Optional;
 
@@ -23,6 +21,8 @@ public enum HearingCentre {
     REMOTE_HEARING("remoteHearing"),
     DECISION_WITHOUT_HEARING("decisionWithoutHearing");
 
+    private static final EnumIndex<String, HearingCentre> BY_VALUE = EnumIndex.of(values(), HearingCentre::getValue);
+
     @JsonValue
     private final String value;
 
@@ -33,9 +33,7 @@ public enum HearingCentre {
     public static Optional<HearingCentre> from(
         String value
     ) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst();
+        return BY_VALUE.find(value);
     }
 
     public String getValue() {
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Optional;
 
@@ -20,6 +18,9 @@ public enum HearingLength {
     LENGTH_5_HOURS_30_MINUTES(330),
     LENGTH_6_HOURS(360);
 
+    // indexed by length in minutes, so a lookup neither boxes the minutes nor hashes them
+    private static final HearingLength[] BY_MINUTES = byMinutes();
+
     @JsonValue
     private final int value;
 
@@ -30,9 +31,24 @@ public enum HearingLength {
     public static Optional<HearingLength> from(
         int value
     ) {
-        return stream(values())
-            .filter(v -> v.getValue() == value)
-            .findFirst();
+        return value >= 0 && value < BY_MINUTES.length
+            ? Optional.ofNullable(BY_MINUTES[value])
+            : Optional.empty();
+    }
+
+    private static HearingLength[] byMinutes() {
+
+        int maxMinutes = 0;
+        for (HearingLength hearingLength : values()) {
+            maxMinutes = Math.max(maxMinutes, hearingLength.value);
+        }
+
+        HearingLength[] byMinutes = new HearingLength[maxMinutes + 1];
+        for (HearingLength hearingLength : values()) {
+            byMinutes[hearingLength.value] = hearingLength;
+        }
+
+        return byMinutes;
     }
 
     public int getValue() {
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Optional;
 
@@ -12,6 +10,8 @@ public enum OutOfCountryDecisionType {
     REMOVAL_OF_CLIENT("removalOfClient", "A decision to remove your client under the Immigration (European Economic Area) Regulations 2016"),
     REFUSE_PERMIT("refusePermit", "A decision to refuse a permit to enter the UK or entry clearance under the immigration rules and/or the EU Settlement Scheme.");
 
+    private static final EnumIndex<String, OutOfCountryDecisionType> BY_VALUE = EnumIndex.of(values(), OutOfCountryDecisionType::getValue);
+
     @JsonValue
     private String value;
 
@@ -33,9 +33,7 @@ public enum OutOfCountryDecisionType {
     public static Optional<OutOfCountryDecisionType> from(
         String value
     ) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst();
+        return BY_VALUE.find(value);
     }
 
     @Override
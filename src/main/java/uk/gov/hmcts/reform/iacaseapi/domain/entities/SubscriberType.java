@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
-import static java.util.Arrays.stream;
-
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Optional;
 
@@ -10,6 +8,8 @@ public enum SubscriberType {
     APPELLANT("appellant"),
     SUPPORTER("supporter");
 
+    private static final EnumIndex<String, SubscriberType> BY_VALUE = EnumIndex.of(values(), SubscriberType::getValue);
+
     @JsonValue
     private final String value;
 
@@ -20,9 +20,7 @@ public enum SubscriberType {
     public static Optional<uk.gov.hmcts.reform.iacaseapi.domain.entities.SubscriberType> from(
         String value
     ) {
-        return stream(values())
-            .filter(v -> v.getValue().equals(value))
-            .findFirst();
+        return BY_VALUE.find(value);
     }
 
     public String getValue() {
@@ -1,6 +1,9 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.handlers;
 
+import java.util.Collections;
+import java.util.Set;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.DispatchPriority;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
@@ -17,6 +20,19 @@ public interface PreSubmitCallbackHandler<T extends CaseData> {
         return DispatchPriority.LATE;
     }
 
+    /*
+    Stages and events this handler can ever accept, used by the dispatcher to route callbacks
+    at startup. canHandle is still called for every routed callback. An empty set means the
+    handler is routed for every stage or event.
+    */
+    default Set<PreSubmitCallbackStage> getHandledStages() {
+        return Collections.emptySet();
+    }
+
+    default Set<Event> getHandledEvents() {
+        return Collections.emptySet();
+    }
+
     PreSubmitCallbackResponse<T> handle(
         PreSubmitCallbackStage callbackStage,
         Callback<T> callback
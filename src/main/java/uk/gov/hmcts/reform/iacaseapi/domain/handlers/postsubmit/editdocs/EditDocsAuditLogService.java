@@ -3,19 +3,33 @@ package uk.gov.hmcts.reform.iacaseapi.domain.handlers.postsubmit.editdocs;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.Document;
 
 @Component
 public class EditDocsAuditLogService {
 
+    private static final List<AsylumCaseFieldDefinition> DOCUMENT_FIELDS = Arrays.asList(
+        ADDITIONAL_EVIDENCE_DOCUMENTS,
+        TRIBUNAL_DOCUMENTS,
+        REHEARD_HEARING_DOCUMENTS,
+        HEARING_DOCUMENTS,
+        LEGAL_REPRESENTATIVE_DOCUMENTS,
+        ADDENDUM_EVIDENCE_DOCUMENTS,
+        RESPONDENT_DOCUMENTS,
+        DRAFT_DECISION_AND_REASONS_DOCUMENTS,
+        FINAL_DECISION_AND_REASONS_DOCUMENTS,
+        HEARING_RECORDING_DOCUMENTS,
+        UPLOAD_SENSITIVE_DOCS);
+
     @Autowired
     private UserDetails userDetails;
 
@@ -23,10 +37,15 @@ public class EditDocsAuditLogService {
     private EditDocsAuditService editDocsAuditService;
 
     public AuditDetails buildAuditDetails(long caseId, AsylumCase asylumCase, AsylumCase asylumCaseBefore) {
+        List<Document> updatedAndDeletedDocs = getUpdatedAndDeletedDocs(asylumCase, asylumCaseBefore);
         return AuditDetails.builder()
             .caseId(caseId)
-            .documentIds(getDeletedDocIds(asylumCase, asylumCaseBefore))
-            .documentNames(getDeletedDocumentNames(asylumCase, asylumCaseBefore))
+            .documentIds(updatedAndDeletedDocs.stream()
+                .map(document -> EditDocsAuditService.getIdFromDocUrl(document.getDocumentUrl()))
+                .collect(Collectors.toList()))
+            .documentNames(updatedAndDeletedDocs.stream()
+                .map(Document::getDocumentFilename)
+                .collect(Collectors.toList()))
             .idamUserId(userDetails.getId())
             .user(getIdamUserName(userDetails))
             .reason(asylumCase.read(EDIT_DOCUMENTS_REASON, String.class).orElse(null))
@@ -34,42 +53,14 @@ public class EditDocsAuditLogService {
             .build();
     }
 
-    private List<String> getDeletedDocumentNames(AsylumCase asylumCase, AsylumCase asylumCaseBefore) {
+    private List<Document> getUpdatedAndDeletedDocs(AsylumCase asylumCase, AsylumCase asylumCaseBefore) {
         if (asylumCaseBefore == null) {
             return Collections.emptyList();
         }
-        List<String> docNames = new ArrayList<>();
-        getListOfDocumentFields().forEach(field -> docNames.addAll(
-            editDocsAuditService.getUpdatedAndDeletedDocNamesForGivenField(asylumCase, asylumCaseBefore, field)));
-        return docNames;
+        return editDocsAuditService.getUpdatedAndDeletedDocs(asylumCase, asylumCaseBefore, DOCUMENT_FIELDS);
     }
 
     private String getIdamUserName(UserDetails userDetails) {
         return userDetails.getForename() + " " + userDetails.getSurname();
     }
-
-    private List<String> getDeletedDocIds(AsylumCase asylumCase, AsylumCase asylumCaseBefore) {
-        if (asylumCaseBefore == null) {
-            return Collections.emptyList();
-        }
-        List<String> docIds = new ArrayList<>();
-        getListOfDocumentFields().forEach(field -> docIds.addAll(
-            editDocsAuditService.getUpdatedAndDeletedDocIdsForGivenField(asylumCase, asylumCaseBefore, field)));
-        return docIds;
-    }
-
-    private List<AsylumCaseFieldDefinition> getListOfDocumentFields() {
-        return Arrays.asList(
-            ADDITIONAL_EVIDENCE_DOCUMENTS,
-            TRIBUNAL_DOCUMENTS,
-            REHEARD_HEARING_DOCUMENTS,
-            HEARING_DOCUMENTS,
-            LEGAL_REPRESENTATIVE_DOCUMENTS,
-            ADDENDUM_EVIDENCE_DOCUMENTS,
-            RESPONDENT_DOCUMENTS,
-            DRAFT_DECISION_AND_REASONS_DOCUMENTS,
-            FINAL_DECISION_AND_REASONS_DOCUMENTS,
-            HEARING_RECORDING_DOCUMENTS,
-            UPLOAD_SENSITIVE_DOCS);
-    }
 }
@@ -2,45 +2,85 @@ package uk.gov.hmcts.reform.iacaseapi.domain.handlers.postsubmit.editdocs;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.Document;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.HasDocument;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.IdValue;
 
 @Component
 public class EditDocsAuditService {
+
     public List<String> getUpdatedAndDeletedDocIdsForGivenField(AsylumCase asylumCase, AsylumCase asylumCaseBefore,
                                                                 AsylumCaseFieldDefinition field) {
-        List<IdValue<HasDocument>> doc = getDocField(asylumCase, field);
-        List<IdValue<HasDocument>> docBefore = getDocField(asylumCaseBefore, field);
-        docBefore.removeAll(doc);
-        List<String> docIds = new ArrayList<>();
-        docBefore.forEach(d -> docIds.add(getIdFromDocUrl(d.getValue().getDocument().getDocumentUrl())));
-        return docIds;
+        return getUpdatedAndDeletedDocs(asylumCase, asylumCaseBefore, Collections.singletonList(field)).stream()
+            .map(document -> getIdFromDocUrl(document.getDocumentUrl()))
+            .collect(Collectors.toList());
     }
 
     public List<String> getUpdatedAndDeletedDocNamesForGivenField(AsylumCase asylumCase, AsylumCase asylumCaseBefore,
                                                                 AsylumCaseFieldDefinition field) {
-        List<IdValue<HasDocument>> doc = getDocField(asylumCase, field);
-        List<IdValue<HasDocument>> docBefore = getDocField(asylumCaseBefore, field);
-        docBefore.removeAll(doc);
-        List<String> docNames = new ArrayList<>();
-        docBefore.forEach(d -> docNames.add(d.getValue().getDocument().getDocumentFilename()));
-        return docNames;
+        return getUpdatedAndDeletedDocs(asylumCase, asylumCaseBefore, Collections.singletonList(field)).stream()
+            .map(Document::getDocumentFilename)
+            .collect(Collectors.toList());
+    }
+
+    /*
+    A document from before is reported when no document now in the same field is equal to it, i.e. it was deleted
+    or its metadata changed. A field whose raw value is equal in both cases is skipped without converting it. Current documents are indexed by URL so each one from before is only compared with the
+    few entries sharing its URL, rather than with the whole collection. Results keep field order, then the order of
+    the documents from before.
+    */
+    public List<Document> getUpdatedAndDeletedDocs(AsylumCase asylumCase, AsylumCase asylumCaseBefore,
+                                                   List<AsylumCaseFieldDefinition> fields) {
+        List<Document> documents = new ArrayList<>();
+
+        for (AsylumCaseFieldDefinition field : fields) {
+
+            if (Objects.equals(asylumCase.get(field.value()), asylumCaseBefore.get(field.value()))) {
+                continue;
+            }
+
+            List<IdValue<HasDocument>> docBefore = getDocField(asylumCaseBefore, field);
+
+            if (docBefore.isEmpty()) {
+                continue;
+            }
+
+            Map<String, List<IdValue<HasDocument>>> docByUrl = indexByDocUrl(getDocField(asylumCase, field));
+
+            for (IdValue<HasDocument> d : docBefore) {
+                Document document = d.getValue().getDocument();
+                List<IdValue<HasDocument>> candidates = docByUrl.getOrDefault(document.getDocumentUrl(), Collections.emptyList());
+                if (!candidates.contains(d)) {
+                    documents.add(document);
+                }
+            }
+        }
+
+        return documents;
     }
 
     public static String getIdFromDocUrl(String documentUrl) {
-        String regexToGetStringFromTheLastForwardSlash = "([^/]+$)";
-        Pattern pattern = Pattern.compile(regexToGetStringFromTheLastForwardSlash);
-        Matcher matcher = pattern.matcher(documentUrl);
-        if (matcher.find()) {
-            return matcher.group();
+        int lastForwardSlash = documentUrl.lastIndexOf('/');
+        if (lastForwardSlash == documentUrl.length() - 1) {
+            return documentUrl;
         }
-        return documentUrl;
+        return documentUrl.substring(lastForwardSlash + 1);
+    }
+
+    private Map<String, List<IdValue<HasDocument>>> indexByDocUrl(List<IdValue<HasDocument>> doc) {
+        Map<String, List<IdValue<HasDocument>>> docByUrl = new HashMap<>();
+        doc.forEach(d -> docByUrl
+            .computeIfAbsent(d.getValue().getDocument().getDocumentUrl(), url -> new ArrayList<>(1))
+            .add(d));
+        return docByUrl;
     }
 
     private List<IdValue<HasDocument>> getDocField(AsylumCase asylumCase, AsylumCaseFieldDefinition field) {
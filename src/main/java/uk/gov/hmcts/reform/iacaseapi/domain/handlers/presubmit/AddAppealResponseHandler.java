@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.DocumentTag;
@@ -44,6 +45,16 @@ public class AddAppealResponseHandler implements PreSubmitCallbackHandler<Asylum
         return DispatchPriority.EARLY;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.ADD_APPEAL_RESPONSE);
+    }
+
     public boolean canHandle(
         PreSubmitCallbackStage callbackStage,
         Callback<AsylumCase> callback
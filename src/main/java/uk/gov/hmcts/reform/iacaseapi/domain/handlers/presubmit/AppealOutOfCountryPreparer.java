@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.iacaseapi.domain.handlers.presubmit;
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.*;
 
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
@@ -30,6 +31,16 @@ public class AppealOutOfCountryPreparer implements PreSubmitCallbackHandler<Asyl
         this.featureToggler = featureToggler;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.ABOUT_TO_START);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.START_APPEAL);
+    }
+
     public boolean canHandle(
         PreSubmitCallbackStage callbackStage,
         Callback<AsylumCase> callback
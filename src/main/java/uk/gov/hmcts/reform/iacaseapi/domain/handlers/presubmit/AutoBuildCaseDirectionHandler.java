@@ -7,6 +7,7 @@ import static uk.gov.hmcts.reform.iacaseapi.domain.handlers.presubmit.RequestCas
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
@@ -42,6 +43,16 @@ public class AutoBuildCaseDirectionHandler implements PreSubmitCallbackHandler<A
         this.directionAppender = directionAppender;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.UPLOAD_RESPONDENT_EVIDENCE);
+    }
+
     public boolean canHandle(
         PreSubmitCallbackStage callbackStage,
         Callback<AsylumCase> callback
@@ -32,6 +32,16 @@ public class ChangeDirectionDueDateHandler implements PreSubmitCallbackHandler<A
         this.waFieldsPublisher = waFieldsPublisher;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.CHANGE_DIRECTION_DUE_DATE);
+    }
+
     public boolean canHandle(
         PreSubmitCallbackStage callbackStage,
         Callback<AsylumCase> callback
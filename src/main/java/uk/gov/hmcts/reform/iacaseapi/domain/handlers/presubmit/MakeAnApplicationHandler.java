@@ -6,6 +6,7 @@ import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefin
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.UserDetailsHelper;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.*;
@@ -41,6 +42,16 @@ public class MakeAnApplicationHandler implements PreSubmitCallbackHandler<Asylum
         this.waFieldsPublisher = waFieldsPublisher;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.MAKE_AN_APPLICATION);
+    }
+
     @Override
     public boolean canHandle(PreSubmitCallbackStage callbackStage,
                              Callback<AsylumCase> callback) {
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.*;
 
 import java.util.List;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.*;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
@@ -22,6 +23,16 @@ public class MakeAnApplicationMidEvent implements PreSubmitCallbackHandler<Asylu
         this.makeAnApplicationTypesProvider = makeAnApplicationTypesProvider;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.MID_EVENT);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.MAKE_AN_APPLICATION);
+    }
+
     @Override
     public boolean canHandle(PreSubmitCallbackStage callbackStage,
                              Callback<AsylumCase> callback) {
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.iacaseapi.domain.handlers.presubmit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
@@ -27,6 +28,16 @@ public class ShareACasePermissionsHandler implements PreSubmitCallbackHandler<As
         this.professionalUsersRetriever = professionalUsersRetriever;
     }
 
+    @Override
+    public Set<PreSubmitCallbackStage> getHandledStages() {
+        return Set.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT);
+    }
+
+    @Override
+    public Set<Event> getHandledEvents() {
+        return Set.of(Event.SHARE_A_CASE);
+    }
+
     @Override
     public boolean canHandle(PreSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
 
@@ -75,9 +86,8 @@ public class ShareACasePermissionsHandler implements PreSubmitCallbackHandler<As
             .getCode();
 
         return professionalUsersRetriever
-            .retrieve()
-            .getUsers()
-            .stream()
-            .anyMatch(user -> userId.equalsIgnoreCase(user.getUserIdentifier()) && user.getIdamStatus().equalsIgnoreCase("ACTIVE"));
+            .findOrganisationUser(userId)
+            .filter(user -> user.getIdamStatus().equalsIgnoreCase("ACTIVE"))
+            .isPresent();
     }
 }
@@ -16,7 +16,6 @@ import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
-import uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Assignment;
 import uk.gov.hmcts.reform.iacaseapi.domain.handlers.PreSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacaseapi.domain.service.CaseWorkerService;
 import uk.gov.hmcts.reform.iacaseapi.domain.service.FeatureToggler;
@@ -95,18 +94,12 @@ public class AllocateTheCaseToCaseWorkerMidEventHandler implements PreSubmitCall
     }
 
     private List<Value> getCaseWorkerValueListForGivenLocation(String location, String securityClassification) {
-        List<String> actorIds = caseWorkerService
-            .getRoleAssignmentsPerLocationAndClassification(
+        return caseWorkerService
+            .getCaseWorkerNamesForLocationAndClassification(
                 location,
                 securityClassification
             )
             .stream()
-            .map(Assignment::getActorId)
-            .collect(Collectors.toList());
-
-        return caseWorkerService
-            .getCaseWorkerNameForActorIds(actorIds)
-            .stream()
             .filter(caseWorkerName -> StringUtils.isNotBlank(caseWorkerName.getFormattedName()))
             .map(caseWorkerName -> new Value(caseWorkerName.getId(), caseWorkerName.getFormattedName()))
             .collect(Collectors.toList());
@@ -7,11 +7,22 @@ import static uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Class
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Classification.PUBLIC;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Classification.RESTRICTED;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Lists;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Assignment;
@@ -34,17 +45,67 @@ public class CaseWorkerService {
     private final RefDataCaseWorkerApi refDataCaseWorkerApi;
     private final IdamService idamService;
     private final AuthTokenGenerator serviceAuthTokenGenerator;
+    private final int lookupChunkSize;
+    private final Executor caseWorkerLookupExecutor;
+
+    /*
+    Names are shared between locations, as a case worker keeps their name whichever location they are listed for.
+    The resolved list per location and classification is only kept briefly so role assignment changes show up soon.
+    */
+    private final Cache<String, CaseWorkerName> caseWorkerNames;
+    private final Cache<String, List<CaseWorkerName>> caseWorkerNamesPerLocation;
 
     public CaseWorkerService(
         RoleAssignmentService roleAssignmentService,
         RefDataCaseWorkerApi refDataCaseWorkerApi,
         IdamService idamService,
-        AuthTokenGenerator serviceAuthTokenGenerator
+        AuthTokenGenerator serviceAuthTokenGenerator,
+        @Value("${ref-data-case-worker-api.lookup.chunkSize:100}") int lookupChunkSize,
+        @Value("${ref-data-case-worker-api.cache.namesTtlInSeconds:3600}") long namesTtlInSeconds,
+        @Value("${ref-data-case-worker-api.cache.namesMaximumSize:20000}") long namesMaximumSize,
+        @Value("${ref-data-case-worker-api.cache.locationsTtlInSeconds:60}") long locationsTtlInSeconds,
+        @Value("${ref-data-case-worker-api.cache.locationsMaximumSize:500}") long locationsMaximumSize,
+        @Qualifier("caseWorkerLookupExecutor") Executor caseWorkerLookupExecutor
     ) {
         this.roleAssignmentService = roleAssignmentService;
         this.refDataCaseWorkerApi = refDataCaseWorkerApi;
         this.idamService = idamService;
         this.serviceAuthTokenGenerator = serviceAuthTokenGenerator;
+        this.lookupChunkSize = lookupChunkSize;
+        this.caseWorkerLookupExecutor = caseWorkerLookupExecutor;
+        this.caseWorkerNames = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(namesTtlInSeconds))
+            .maximumSize(namesMaximumSize)
+            .build();
+        this.caseWorkerNamesPerLocation = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(locationsTtlInSeconds))
+            .maximumSize(locationsMaximumSize)
+            .build();
+    }
+
+    public List<CaseWorkerName> getCaseWorkerNamesForLocationAndClassification(
+        String location,
+        String securityClassification
+    ) {
+        String key = location + ":" + securityClassification;
+
+        List<CaseWorkerName> cached = caseWorkerNamesPerLocation.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<String> actorIds = getRoleAssignmentsPerLocationAndClassification(location, securityClassification)
+            .stream()
+            .map(Assignment::getActorId)
+            .collect(Collectors.toList());
+
+        List<CaseWorkerName> caseWorkerNamesForLocation = List.copyOf(getCaseWorkerNameForActorIds(actorIds));
+
+        if (!caseWorkerNamesForLocation.isEmpty()) {
+            caseWorkerNamesPerLocation.put(key, caseWorkerNamesForLocation);
+        }
+
+        return caseWorkerNamesForLocation;
     }
 
     public List<Assignment> getRoleAssignmentsPerLocationAndClassification(
@@ -77,10 +138,69 @@ public class CaseWorkerService {
     }
 
     public List<CaseWorkerName> getCaseWorkerNameForActorIds(List<String> actorIds) {
+
+        List<String> distinctActorIds = actorIds.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+
+        Map<String, CaseWorkerName> namesById = new HashMap<>(caseWorkerNames.getAllPresent(distinctActorIds));
+
+        List<String> missingActorIds = distinctActorIds.stream()
+            .filter(actorId -> !namesById.containsKey(actorId))
+            .collect(Collectors.toList());
+
+        if (!missingActorIds.isEmpty()) {
+            fetchCaseWorkerNames(missingActorIds).forEach(caseWorkerName -> {
+                if (caseWorkerName.getId() != null) {
+                    caseWorkerNames.put(caseWorkerName.getId(), caseWorkerName);
+                    namesById.put(caseWorkerName.getId(), caseWorkerName);
+                }
+            });
+        }
+
+        return distinctActorIds.stream()
+            .map(namesById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private List<CaseWorkerName> fetchCaseWorkerNames(List<String> actorIds) {
+
+        final String userToken = idamService.getServiceUserToken();
+        final String serviceToken = serviceAuthTokenGenerator.generate();
+
+        List<List<String>> chunks = Lists.partition(actorIds, lookupChunkSize);
+
+        if (chunks.size() == 1) {
+            return fetchCaseWorkerNames(userToken, serviceToken, chunks.get(0));
+        }
+
+        List<CompletableFuture<List<CaseWorkerName>>> lookups = chunks.stream()
+            .map(chunk -> CompletableFuture.supplyAsync(
+                () -> fetchCaseWorkerNames(userToken, serviceToken, chunk),
+                caseWorkerLookupExecutor
+            ))
+            .collect(Collectors.toList());
+
+        try {
+            return lookups.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private List<CaseWorkerName> fetchCaseWorkerNames(String userToken, String serviceToken, List<String> actorIds) {
         return refDataCaseWorkerApi
             .fetchUsersById(
-                idamService.getServiceUserToken(),
-                serviceAuthTokenGenerator.generate(),
+                userToken,
+                serviceToken,
                 new UserIds(actorIds)
             )
             .stream()
@@ -1,31 +1,69 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.service;
 
-import com.google.common.collect.ImmutableMap;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.HearingCentre;
 
+/*
+The catchment areas are compiled into a table from postcode area to hearing centre when the finder is created,
+the first hearing centre listing an area taking it. The postcode area is the first run of letters in the postcode.
+Activation dates are parsed up front into the instant each hearing centre becomes active, so that checking one
+only reads the clock.
+*/
 public class HearingCentreFinder {
 
-    private static final Pattern POSTCODE_AREA_PATTERN = Pattern.compile("([A-Za-z]+).*");
+    private static final Set<HearingCentre> LISTING_ONLY_HEARING_CENTRES = Collections.unmodifiableSet(EnumSet.of(
+        HearingCentre.COVENTRY,
+        HearingCentre.GLASGOW_TRIBUNALS_CENTRE,
+        HearingCentre.NEWCASTLE,
+        HearingCentre.BELFAST,
+        HearingCentre.NOTTINGHAM
+    ));
 
     private final HearingCentre defaultHearingCentre;
-    private final Map<HearingCentre, List<String>> hearingCentreCatchmentAreas;
-    private final Map<HearingCentre, String> hearingCentreActivationDates;
+    private final Map<String, HearingCentre> hearingCentreByPostcodeArea;
+    private final Map<HearingCentre, Long> hearingCentreActiveFromMillis;
+    private final Clock clock;
 
     public HearingCentreFinder(
         HearingCentre defaultHearingCentre,
         Map<HearingCentre, List<String>> hearingCentreCatchmentAreas,
         Map<HearingCentre, String> hearingCentreActivationDates
+    ) {
+        this(defaultHearingCentre, hearingCentreCatchmentAreas, hearingCentreActivationDates, Clock.systemDefaultZone());
+    }
+
+    HearingCentreFinder(
+        HearingCentre defaultHearingCentre,
+        Map<HearingCentre, List<String>> hearingCentreCatchmentAreas,
+        Map<HearingCentre, String> hearingCentreActivationDates,
+        Clock clock
     ) {
         this.defaultHearingCentre = defaultHearingCentre;
-        this.hearingCentreCatchmentAreas = ImmutableMap.copyOf(hearingCentreCatchmentAreas);
-        this.hearingCentreActivationDates = ImmutableMap.copyOf(hearingCentreActivationDates);
+        this.clock = clock;
+
+        Map<String, HearingCentre> hearingCentreByPostcodeArea = new HashMap<>();
+        hearingCentreCatchmentAreas.forEach((hearingCentre, postcodeAreas) ->
+            postcodeAreas.forEach(postcodeArea ->
+                hearingCentreByPostcodeArea.putIfAbsent(postcodeArea, hearingCentre)
+            )
+        );
+        this.hearingCentreByPostcodeArea = hearingCentreByPostcodeArea;
+
+        Map<HearingCentre, Long> hearingCentreActiveFromMillis = new EnumMap<>(HearingCentre.class);
+        hearingCentreActivationDates.forEach((hearingCentre, activationDate) ->
+            hearingCentreActiveFromMillis.put(hearingCentre, activeFromMillis(activationDate))
+        );
+        this.hearingCentreActiveFromMillis = hearingCentreActiveFromMillis;
     }
 
     public HearingCentre getDefaultHearingCentre() {
@@ -35,25 +73,14 @@ public class HearingCentreFinder {
     public HearingCentre find(
         String postcode
     ) {
-        Matcher postcodeAreaMatcher = POSTCODE_AREA_PATTERN.matcher(postcode);
-
-        if (postcodeAreaMatcher.find()
-            && postcodeAreaMatcher.groupCount() == 1) {
+        String postcodeArea = postcodeArea(postcode);
 
-            String postcodeArea = postcodeAreaMatcher.group(1).toUpperCase();
+        if (postcodeArea != null) {
 
-            Optional<HearingCentre> hearingCentre =
-                hearingCentreCatchmentAreas
-                    .entrySet()
-                    .stream()
-                    .filter(catchmentArea -> catchmentArea.getValue().contains(postcodeArea))
-                    .map(Map.Entry::getKey)
-                    .findFirst();
+            HearingCentre hearingCentre = hearingCentreByPostcodeArea.get(postcodeArea);
 
-            if (hearingCentre.isPresent()) {
-                if (hearingCentreIsActive(hearingCentreActivationDates.get(hearingCentre.get()))) {
-                    return hearingCentre.get();
-                }
+            if (hearingCentre != null && hearingCentreIsActive(hearingCentre)) {
+                return hearingCentre;
             }
         }
 
@@ -61,22 +88,50 @@ public class HearingCentreFinder {
     }
 
     public boolean hearingCentreIsActive(String hearingCentreActivationDate) {
-        if (LocalDate.parse(hearingCentreActivationDate).isAfter(LocalDate.now())) {
-            return false;
-        }
-        return true;
+        return clock.millis() >= activeFromMillis(hearingCentreActivationDate);
     }
 
     public boolean hearingCentreIsActive(HearingCentre hearingCentre) {
-        return hearingCentreIsActive(hearingCentreActivationDates.get(hearingCentre));
+
+        Long activeFromMillis = requireNonNull(
+            hearingCentreActiveFromMillis.get(hearingCentre),
+            "hearing centre activation date must be configured"
+        );
+
+        return clock.millis() >= activeFromMillis;
     }
 
     public boolean isListingOnlyHearingCentre(HearingCentre hearingCentre) {
-        return Arrays.asList(
-            HearingCentre.COVENTRY,
-            HearingCentre.GLASGOW_TRIBUNALS_CENTRE,
-            HearingCentre.NEWCASTLE,
-            HearingCentre.BELFAST,
-            HearingCentre.NOTTINGHAM).contains(hearingCentre);
+        return LISTING_ONLY_HEARING_CENTRES.contains(hearingCentre);
+    }
+
+    private long activeFromMillis(String hearingCentreActivationDate) {
+        return LocalDate.parse(hearingCentreActivationDate)
+            .atStartOfDay(clock.getZone())
+            .toInstant()
+            .toEpochMilli();
+    }
+
+    private static String postcodeArea(String postcode) {
+
+        int start = 0;
+        while (start < postcode.length() && !isAsciiLetter(postcode.charAt(start))) {
+            start++;
+        }
+
+        if (start == postcode.length()) {
+            return null;
+        }
+
+        int end = start + 1;
+        while (end < postcode.length() && isAsciiLetter(postcode.charAt(end))) {
+            end++;
+        }
+
+        return postcode.substring(start, end).toUpperCase();
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
 }
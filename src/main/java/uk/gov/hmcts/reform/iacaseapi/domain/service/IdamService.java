@@ -1,11 +1,22 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.service;
 
+import com.nimbusds.jwt.JWTParser;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.IdamApi;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.model.idam.Token;
 
+@Slf4j
 @Component
 public class IdamService {
 
@@ -15,8 +26,20 @@ public class IdamService {
     private final String systemUserScope;
     private final String idamClientId;
     private final String idamClientSecret;
+    private final long tokenRefreshMarginInSeconds;
     private final IdamApi idamApi;
+    private final Clock clock;
 
+    /*
+    The system user token is cached until shortly before it expires. Within the refresh margin a single caller
+    fetches a new token while everyone else carries on with the current one, which is still valid. A token
+    whose expiry cannot be determined is never cached. Expiry is held as an Instant rather than local time,
+    so that clocks going back for daylight saving do not keep an expired token in use.
+    */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken cachedToken;
+
+    @Autowired
     public IdamService(
         @Value("${idam.ia_system_user.username}") String systemUserName,
         @Value("${idam.ia_system_user.password}") String systemUserPass,
@@ -24,7 +47,32 @@ public class IdamService {
         @Value("${idam.ia_system_user.scope}") String scope,
         @Value("${spring.security.oauth2.client.registration.oidc.client-id}") String idamClientId,
         @Value("${spring.security.oauth2.client.registration.oidc.client-secret}") String idamClientSecret,
+        @Value("${idam.ia_system_user.tokenRefreshMarginInSeconds:300}") long tokenRefreshMarginInSeconds,
         IdamApi idamApi
+    ) {
+        this(
+            systemUserName,
+            systemUserPass,
+            idamRedirectUrl,
+            scope,
+            idamClientId,
+            idamClientSecret,
+            tokenRefreshMarginInSeconds,
+            idamApi,
+            Clock.systemUTC()
+        );
+    }
+
+    IdamService(
+        String systemUserName,
+        String systemUserPass,
+        String idamRedirectUrl,
+        String scope,
+        String idamClientId,
+        String idamClientSecret,
+        long tokenRefreshMarginInSeconds,
+        IdamApi idamApi,
+        Clock clock
     ) {
         this.systemUserName = systemUserName;
         this.systemUserPass = systemUserPass;
@@ -32,10 +80,50 @@ public class IdamService {
         this.systemUserScope = scope;
         this.idamClientId = idamClientId;
         this.idamClientSecret = idamClientSecret;
+        this.tokenRefreshMarginInSeconds = tokenRefreshMarginInSeconds;
         this.idamApi = idamApi;
+        this.clock = clock;
     }
 
     public String getServiceUserToken() {
+
+        CachedToken current = cachedToken;
+        Instant now = clock.instant();
+
+        if (current != null && now.isBefore(current.refreshAt)) {
+            return current.bearerToken;
+        }
+
+        if (current != null && now.isBefore(current.expiresAt)) {
+
+            if (!refreshLock.tryLock()) {
+                return current.bearerToken;
+            }
+
+            try {
+                return refreshToken().bearerToken;
+            } catch (RuntimeException e) {
+                log.warn("Unable to refresh system user token, reusing current token until it expires", e);
+                return current.bearerToken;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        refreshLock.lock();
+        try {
+            current = cachedToken;
+            if (current != null && clock.instant().isBefore(current.refreshAt)) {
+                return current.bearerToken;
+            }
+            return refreshToken().bearerToken;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CachedToken refreshToken() {
+
         Map<String, String> idamAuthDetails = new ConcurrentHashMap<>();
 
         idamAuthDetails.put("grant_type", "password");
@@ -46,7 +134,45 @@ public class IdamService {
         idamAuthDetails.put("password", systemUserPass);
         idamAuthDetails.put("scope", systemUserScope);
 
-        return "Bearer " + idamApi.token(idamAuthDetails).getAccessToken();
+        Instant requestedAt = clock.instant();
+        Token token = idamApi.token(idamAuthDetails);
+
+        String bearerToken = "Bearer " + token.getAccessToken();
+
+        CachedToken refreshed = getExpiry(token, requestedAt)
+            .map(expiresAt -> new CachedToken(bearerToken, expiresAt, expiresAt.minusSeconds(tokenRefreshMarginInSeconds)))
+            .orElseGet(() -> new CachedToken(bearerToken, requestedAt, requestedAt));
+
+        cachedToken = refreshed;
+
+        return refreshed;
+    }
+
+    private Optional<Instant> getExpiry(Token token, Instant requestedAt) {
+
+        if (token.getExpiresIn() != null) {
+            return Optional.of(requestedAt.plusSeconds(token.getExpiresIn()));
+        }
+
+        try {
+            Date expirationTime = JWTParser.parse(token.getAccessToken()).getJWTClaimsSet().getExpirationTime();
+            return Optional.ofNullable(expirationTime).map(Date::toInstant);
+        } catch (ParseException | RuntimeException e) {
+            log.warn("Unable to read expiry of system user token, token will not be cached");
+            return Optional.empty();
+        }
     }
 
+    private static final class CachedToken {
+
+        private final String bearerToken;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+
+        private CachedToken(String bearerToken, Instant expiresAt, Instant refreshAt) {
+            this.bearerToken = bearerToken;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
 }
@@ -1,161 +1,133 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.service;
 
-import static uk.gov.hmcts.reform.iacaseapi.domain.entities.MakeAnApplicationTypes.*;
+import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import org.springframework.stereotype.Service;
+import java.util.Map;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.DynamicList;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.MakeAnApplicationTypes;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.Value;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
 
-@Service
+/*
+The application types offered in each state are configured in the order they are listed, and a type
+configured with roles is only offered to users with at least one of them. Every list a user could be
+offered is built once, up front, for each combination of those roles, so a callback only looks one up.
+*/
 public class MakeAnApplicationTypesProvider {
 
-    private static final String ROLE_LEGAL_REP = "caseworker-ia-legalrep-solicitor";
+    private static final int MAX_RESTRICTING_ROLES = 8;
+
+    private static final DynamicList NO_APPLICATION_TYPES = new DynamicList("");
 
     private final UserDetails userDetails;
+    private final List<String> restrictingRoles;
+    private final Map<State, DynamicList[]> applicationTypesByState = new EnumMap<>(State.class);
 
     public MakeAnApplicationTypesProvider(
-        UserDetails userDetails
+        UserDetails userDetails,
+        Map<State, List<MakeAnApplicationTypes>> applicationTypes,
+        Map<MakeAnApplicationTypes, List<String>> applicationTypeRoles
     ) {
+        requireNonNull(applicationTypes, "applicationTypes must not be null");
+        requireNonNull(applicationTypeRoles, "applicationTypeRoles must not be null");
+
         this.userDetails = userDetails;
+
+        List<String> roles = new ArrayList<>();
+        applicationTypeRoles.values().forEach(typeRoles ->
+            typeRoles.stream()
+                .filter(role -> !roles.contains(role))
+                .forEach(roles::add)
+        );
+
+        if (roles.size() > MAX_RESTRICTING_ROLES) {
+            throw new IllegalArgumentException(
+                "Application types cannot be restricted by more than " + MAX_RESTRICTING_ROLES + " roles");
+        }
+
+        this.restrictingRoles = Collections.unmodifiableList(roles);
+
+        Map<MakeAnApplicationTypes, Integer> roleMasks = new EnumMap<>(MakeAnApplicationTypes.class);
+        applicationTypeRoles.forEach((type, typeRoles) -> {
+            int roleMask = 0;
+            for (String role : typeRoles) {
+                roleMask |= 1 << roles.indexOf(role);
+            }
+            roleMasks.put(type, roleMask);
+        });
+
+        applicationTypes.forEach((state, types) ->
+            applicationTypesByState.put(state, buildApplicationTypes(types, roleMasks))
+        );
     }
 
     public DynamicList getMakeAnApplicationTypes(Callback<AsylumCase> callback) {
 
         final State currentState = callback.getCaseDetails().getState();
 
-        DynamicList dynamicList;
-        final List<Value> values = new ArrayList<>();
-        switch (currentState) {
-            case APPEAL_SUBMITTED:
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                }
-                values.add(new Value(WITHDRAW.name(), WITHDRAW.toString()));
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(OTHER.name(), OTHER.toString()));
-                break;
-
-            case ENDED:
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(REINSTATE.name(), REINSTATE.toString()));
-                break;
-
-            case PENDING_PAYMENT:
-            case AWAITING_RESPONDENT_EVIDENCE:
-            case CASE_BUILDING:
-            case AWAITING_REASONS_FOR_APPEAL:
-            case AWAITING_CLARIFYING_QUESTIONS_ANSWERS:
-            case AWAITING_CMA_REQUIREMENTS:
-            case CASE_UNDER_REVIEW:
-            case REASONS_FOR_APPEAL_SUBMITTED:
-            case RESPONDENT_REVIEW:
-            case SUBMIT_HEARING_REQUIREMENTS:
-                values.add(new Value(TIME_EXTENSION.name(), TIME_EXTENSION.toString()));
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                }
-                values.add(new Value(WITHDRAW.name(), WITHDRAW.toString()));
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(OTHER.name(), OTHER.toString()));
-                break;
-
-            case FTPA_SUBMITTED:
-            case FTPA_DECIDED:
-                values.add(new Value(TIME_EXTENSION.name(), TIME_EXTENSION.toString()));
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                }
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(OTHER.name(), OTHER.toString()));
-                break;
-
-            case FINAL_BUNDLING:
-                values.add(new Value(TIME_EXTENSION.name(), TIME_EXTENSION.toString()));
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                    values.add(new Value(UPDATE_HEARING_REQUIREMENTS.name(),
-                        UPDATE_HEARING_REQUIREMENTS.toString()));
-                }
-                values.add(new Value(WITHDRAW.name(), WITHDRAW.toString()));
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(OTHER.name(), OTHER.toString()));
-                break;
-
-            case LISTING:
-                values.add(new Value(TIME_EXTENSION.name(), TIME_EXTENSION.toString()));
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                    values.add(new Value(UPDATE_HEARING_REQUIREMENTS.name(),
-                        UPDATE_HEARING_REQUIREMENTS.toString()));
-                }
-                values.add(new Value(WITHDRAW.name(), WITHDRAW.toString()));
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                break;
-
-            case ADJOURNED:
-            case PREPARE_FOR_HEARING:
-            case PRE_HEARING:
-            case DECISION:
-                values.add(new Value(ADJOURN.name(), ADJOURN.toString()));
-                values.add(new Value(EXPEDITE.name(), EXPEDITE.toString()));
-                values.add(new Value(TRANSFER.name(), TRANSFER.toString()));
-                values.add(new Value(TIME_EXTENSION.name(), TIME_EXTENSION.toString()));
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                    values.add(new Value(UPDATE_HEARING_REQUIREMENTS.name(),
-                        UPDATE_HEARING_REQUIREMENTS.toString()));
-                }
-                values.add(new Value(WITHDRAW.name(), WITHDRAW.toString()));
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(OTHER.name(), OTHER.toString()));
-                break;
-
-            case DECIDED:
-                if (hasRole(ROLE_LEGAL_REP)) {
-                    values.add(new Value(UPDATE_APPEAL_DETAILS.name(),
-                        UPDATE_APPEAL_DETAILS.toString()));
-                }
-                values.add(new Value(LINK_OR_UNLINK.name(), LINK_OR_UNLINK.toString()));
-                values.add(new Value(JUDGE_REVIEW.name(), JUDGE_REVIEW.toString()));
-                values.add(new Value(OTHER.name(), OTHER.toString()));
-                break;
+        DynamicList[] applicationTypes = applicationTypesByState.get(currentState);
 
-            default:
-                break;
+        if (applicationTypes == null) {
+            return NO_APPLICATION_TYPES;
+        }
 
+        if (applicationTypes.length == 1) {
+            return applicationTypes[0];
         }
 
-        if (!values.isEmpty()) {
-            dynamicList = new DynamicList(values.get(0), values);
-        } else {
-            dynamicList = new DynamicList("");
+        return applicationTypes[heldRoleMask()];
+    }
+
+    /*
+    Lists are indexed by the mask of restricting roles held. States offering no restricted type
+    only need the one list, and never look at the user's roles.
+    */
+    private DynamicList[] buildApplicationTypes(
+        List<MakeAnApplicationTypes> types,
+        Map<MakeAnApplicationTypes, Integer> roleMasks
+    ) {
+        boolean restricted = types.stream()
+            .anyMatch(type -> roleMasks.getOrDefault(type, 0) != 0);
+
+        DynamicList[] applicationTypes = new DynamicList[restricted ? 1 << restrictingRoles.size() : 1];
+
+        for (int heldRoleMask = 0; heldRoleMask < applicationTypes.length; heldRoleMask++) {
+
+            List<Value> values = new ArrayList<>();
+
+            for (MakeAnApplicationTypes type : types) {
+                int roleMask = roleMasks.getOrDefault(type, 0);
+                if (roleMask == 0 || (roleMask & heldRoleMask) != 0) {
+                    values.add(new Value(type.name(), type.toString()));
+                }
+            }
+
+            applicationTypes[heldRoleMask] = values.isEmpty()
+                ? NO_APPLICATION_TYPES
+                : new DynamicList(values.get(0), List.copyOf(values));
         }
 
-        return dynamicList;
+        return applicationTypes;
     }
 
-    private boolean hasRole(String roleName) {
+    private int heldRoleMask() {
+
+        List<String> roles = userDetails.getRoles();
+
+        int heldRoleMask = 0;
+        for (int i = 0; i < restrictingRoles.size(); i++) {
+            if (roles.contains(restrictingRoles.get(i))) {
+                heldRoleMask |= 1 << i;
+            }
+        }
 
-        return userDetails
-            .getRoles()
-            .contains(roleName);
+        return heldRoleMask;
     }
 }
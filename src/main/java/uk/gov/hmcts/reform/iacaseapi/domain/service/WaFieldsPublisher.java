@@ -54,9 +54,11 @@ public class WaFieldsPublisher {
             String state,
             String applicantRole) {
 
-        log.info("Evaluate wa-R2-feature: " + featureToggler.getValue("wa-R2-feature", false));
+        boolean waR2Feature = featureToggler.getValue("wa-R2-feature", false);
 
-        if (featureToggler.getValue("wa-R2-feature", false)) {
+        log.info("Evaluate wa-R2-feature: " + waR2Feature);
+
+        if (waR2Feature) {
 
             final MakeAnApplication lastModifiedApplication = new MakeAnApplication(
                     applicant, type, details,
@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+
+/*
+Meters are registered the first time a handler is seen for an event, stage and priority, and then looked up
+by handler class, stage and priority in maps and by event ordinal in an array, so that recording on the
+callback path neither builds tags nor allocates keys.
+*/
+@Component
+public class CallbackHandlerMetrics {
+
+    public static final String HANDLER_TIMER = "ia.callback.handler";
+    public static final String CAN_HANDLE_COUNTER = "ia.callback.handler.canHandle";
+
+    private static final int NO_EVENT = Event.values().length;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, ConcurrentMap<String, HandlerMeters[]>>> handlerMeters =
+        new ConcurrentHashMap<>();
+
+    public CallbackHandlerMetrics(
+        MeterRegistry meterRegistry
+    ) {
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordCanHandle(
+        Object callbackHandler,
+        Event event,
+        String callbackStage,
+        String dispatchPriority,
+        boolean canHandle
+    ) {
+        HandlerMeters meters = handlerMeters(callbackHandler, event, callbackStage, dispatchPriority);
+
+        (canHandle ? meters.hitCounter() : meters.missCounter()).increment();
+    }
+
+    public <R> R recordHandle(
+        Object callbackHandler,
+        Event event,
+        String callbackStage,
+        String dispatchPriority,
+        Supplier<R> handle
+    ) {
+        return handlerMeters(callbackHandler, event, callbackStage, dispatchPriority)
+            .timer()
+            .record(handle);
+    }
+
+    private HandlerMeters handlerMeters(
+        Object callbackHandler,
+        Event event,
+        String callbackStage,
+        String dispatchPriority
+    ) {
+        HandlerMeters[] metersByEvent =
+            getOrCreate(
+                getOrCreate(
+                    getOrCreate(handlerMeters, callbackHandler.getClass(), handlerClass -> new ConcurrentHashMap<>()),
+                    callbackStage,
+                    stage -> new ConcurrentHashMap<>()
+                ),
+                dispatchPriority,
+                priority -> new HandlerMeters[NO_EVENT + 1]
+            );
+
+        int index = event == null ? NO_EVENT : event.ordinal();
+
+        HandlerMeters meters = metersByEvent[index];
+
+        if (meters == null) {
+            // a race only registers the same meters twice, which the registry resolves to the same instances
+            meters = new HandlerMeters(meterRegistry, tags(callbackHandler, event, callbackStage, dispatchPriority));
+            metersByEvent[index] = meters;
+        }
+
+        return meters;
+    }
+
+    private static <K, V> V getOrCreate(ConcurrentMap<K, V> map, K key, Function<K, V> create) {
+        V value = map.get(key);
+        return value != null ? value : map.computeIfAbsent(key, create);
+    }
+
+    private Tags tags(
+        Object callbackHandler,
+        Event event,
+        String callbackStage,
+        String dispatchPriority
+    ) {
+        return Tags.of(
+            "handler", callbackHandler.getClass().getSimpleName(),
+            "event", String.valueOf(event),
+            "stage", callbackStage,
+            "priority", dispatchPriority
+        );
+    }
+
+    private static final class HandlerMeters {
+
+        private final MeterRegistry meterRegistry;
+        private final Tags tags;
+
+        private volatile Counter hitCounter;
+        private volatile Counter missCounter;
+        private volatile Timer timer;
+
+        private HandlerMeters(MeterRegistry meterRegistry, Tags tags) {
+            this.meterRegistry = meterRegistry;
+            this.tags = tags;
+        }
+
+        private Counter hitCounter() {
+            Counter counter = hitCounter;
+            if (counter == null) {
+                counter = meterRegistry.counter(CAN_HANDLE_COUNTER, tags.and("result", "hit"));
+                hitCounter = counter;
+            }
+            return counter;
+        }
+
+        private Counter missCounter() {
+            Counter counter = missCounter;
+            if (counter == null) {
+                counter = meterRegistry.counter(CAN_HANDLE_COUNTER, tags.and("result", "miss"));
+                missCounter = counter;
+            }
+            return counter;
+        }
+
+        private Timer timer() {
+            Timer handleTimer = timer;
+            if (handleTimer == null) {
+                handleTimer = meterRegistry.timer(HANDLER_TIMER, tags);
+                timer = handleTimer;
+            }
+            return handleTimer;
+        }
+    }
+}
@@ -1,100 +1,273 @@
 package uk.gov.hmcts.reform.iacaseapi.infrastructure;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AppealType;
 import uk.gov.hmcts.reform.iacaseapi.domain.service.AppealReferenceNumberGenerator;
 
+/*
+Numbers are reserved from a counter row per appeal type and year, appealReferenceBlockSize at a time, so
+concurrent submissions only contend on a short update of that row. Numbers reserved by a node but not yet
+handed out are lost when it stops, leaving gaps; with a block size of 1 every number is reserved as it is used.
+A case keeps its number once stored, so numbers read or generated are cached by case id.
+*/
 @Slf4j
 @Service
 public class DbAppealReferenceNumberGenerator implements AppealReferenceNumberGenerator {
 
+    public static final String CACHE_NAME = "appealReferenceNumbers";
+
     private static final String EXCEPTION_MESSAGE = "Appeal reference number could not be generated";
+    private static final int MAX_ATTEMPTS = 10;
 
     private final int appealReferenceSequenceSeed;
+    private final int appealReferenceBlockSize;
     private final DateProvider dateProvider;
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Cache<Long, String> appealReferenceNumberByCaseId;
+    private final Map<String, SequenceBlock> sequenceBlocks = new ConcurrentHashMap<>();
 
     public DbAppealReferenceNumberGenerator(
         @Value("${appealReferenceSequenceSeed}") int appealReferenceSequenceSeed,
+        @Value("${appealReferenceBlockSize:1}") int appealReferenceBlockSize,
         DateProvider dateProvider,
-        NamedParameterJdbcTemplate jdbcTemplate
+        NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${cache.appealReferenceNumbers.expirationTimeInSeconds:60}") long expirationTimeInSeconds,
+        @Value("${cache.appealReferenceNumbers.maximumSize:10000}") long maximumSize,
+        MeterRegistry meterRegistry
     ) {
+        if (appealReferenceBlockSize < 1) {
+            throw new IllegalArgumentException("appealReferenceBlockSize must be positive");
+        }
+
         this.appealReferenceSequenceSeed = appealReferenceSequenceSeed;
+        this.appealReferenceBlockSize = appealReferenceBlockSize;
         this.dateProvider = dateProvider;
         this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.appealReferenceNumberByCaseId = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(expirationTimeInSeconds))
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, appealReferenceNumberByCaseId, CACHE_NAME);
     }
 
+    @Retryable(include = TransientDataAccessException.class)
     public String generate(
         long caseId,
         AppealType appealType
     ) {
+        Optional<String> existingAppealReferenceNumber = selectAppealReferenceNumberForCase(caseId);
+
+        if (existingAppealReferenceNumber.isPresent()) {
+            return existingAppealReferenceNumber.get();
+        }
+
         final int currentYear = dateProvider.now().getYear();
 
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+
+            int sequence = nextSequence(appealType.name(), currentYear);
+
+            try {
+
+                insertReferenceNumber(caseId, appealType.name(), currentYear, sequence);
+
+                String appealReferenceNumber = appealType.name() + "/" + sequence + "/" + currentYear;
+                appealReferenceNumberByCaseId.put(caseId, appealReferenceNumber);
+
+                log.info("Generated appeal reference number: {} for case {}", appealReferenceNumber, caseId);
+
+                return appealReferenceNumber;
+
+            } catch (DuplicateKeyException e) {
+
+                existingAppealReferenceNumber = selectAppealReferenceNumberForCase(caseId);
+
+                if (existingAppealReferenceNumber.isPresent()) {
+                    // numbered by a concurrent call for the same case
+                    return existingAppealReferenceNumber.get();
+                }
+
+                log.warn("Appeal reference sequence {} for {}/{} is already taken, reserving another", sequence, appealType, currentYear);
+            }
+        }
+
+        throw new IllegalStateException(EXCEPTION_MESSAGE);
+    }
+
+    private int nextSequence(
+        String appealType,
+        int year
+    ) {
+        SequenceBlock sequenceBlock = sequenceBlocks.computeIfAbsent(appealType + "/" + year, key -> new SequenceBlock());
+
+        synchronized (sequenceBlock) {
+
+            if (sequenceBlock.next > sequenceBlock.last) {
+                int last = reserveSequences(appealType, year);
+                sequenceBlock.next = last - appealReferenceBlockSize + 1;
+                sequenceBlock.last = last;
+            }
+
+            return sequenceBlock.next++;
+        }
+    }
+
+    private int reserveSequences(
+        String appealType,
+        int year
+    ) {
         MapSqlParameterSource parameters = new MapSqlParameterSource();
-        parameters.addValue("caseId", caseId);
-        parameters.addValue("appealType", appealType.name());
-        parameters.addValue("year", currentYear);
+        parameters.addValue("appealType", appealType);
+        parameters.addValue("year", year);
+        parameters.addValue("count", appealReferenceBlockSize);
         parameters.addValue("seed", appealReferenceSequenceSeed);
 
-        try {
-            tryInsertNewReferenceNumber(parameters);
-        } catch (Exception e) {
-            // appeal reference number already exists for this case
-            log.warn("There was an issue when the system was generating appeal reference number: {} for case {}", selectAppealReferenceNumberForCase(parameters));
-        }
+        for (int attempt = 1; attempt <= 2; attempt++) {
 
-        try {
+            Integer last = transactionTemplate.execute(status -> {
 
-            String appealReferenceNumber = selectAppealReferenceNumberForCase(parameters);
+                int updated = jdbcTemplate.update(
+                    "UPDATE ia_case_api.appeal_reference_sequences "
+                    + "   SET last_sequence = last_sequence + :count "
+                    + " WHERE type = :appealType "
+                    + "   AND year = :year;",
+                    parameters
+                );
 
-            log.info("Generated appeal reference number: {} for case {}", appealReferenceNumber, caseId);
+                if (updated == 0) {
+                    return null;
+                }
 
-            return appealReferenceNumber;
+                return jdbcTemplate.queryForObject(
+                    "SELECT last_sequence "
+                    + " FROM ia_case_api.appeal_reference_sequences "
+                    + "WHERE type = :appealType "
+                    + "  AND year = :year;",
+                    parameters,
+                    Integer.class
+                );
+            });
 
-        } catch (EmptyResultDataAccessException e) {
-            throw new IllegalStateException(EXCEPTION_MESSAGE);
+            if (last != null) {
+                return last;
+            }
+
+            insertSequence(parameters);
         }
+
+        throw new IllegalStateException(EXCEPTION_MESSAGE);
     }
 
-    @Retryable(include = TransientDataAccessException.class)
-    private void tryInsertNewReferenceNumber(
+    /*
+    The first number of a type and year follows any already issued, for numbers issued before the counter existed.
+    */
+    private void insertSequence(
         MapSqlParameterSource parameters
     ) {
+        try {
+            jdbcTemplate.update(
+                "INSERT INTO ia_case_api.appeal_reference_sequences "
+                + "          (type, "
+                + "           year, "
+                + "           last_sequence) "
+                + "   SELECT :appealType, "
+                + "          :year, "
+                + "          COALESCE(MAX(sequence), :seed) "
+                + "    FROM ia_case_api.appeal_reference_numbers "
+                + "   WHERE type = :appealType "
+                + "     AND year = :year;",
+                parameters
+            );
+        } catch (DuplicateKeyException expected) {
+            // inserted by another node in the meantime
+        }
+    }
+
+    private void insertReferenceNumber(
+        long caseId,
+        String appealType,
+        int year,
+        int sequence
+    ) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("caseId", caseId);
+        parameters.addValue("appealType", appealType);
+        parameters.addValue("year", year);
+        parameters.addValue("sequence", sequence);
+
         jdbcTemplate.update(
             "INSERT INTO ia_case_api.appeal_reference_numbers "
             + "          (case_id, "
             + "           type, "
             + "           year, "
             + "           sequence) "
-            + "   SELECT :caseId, "
-            + "          :appealType, "
-            + "          :year, "
-            + "          COALESCE(MAX(sequence), :seed) + 1 "
-            + "    FROM ia_case_api.appeal_reference_numbers "
-            + "   WHERE type = :appealType "
-            + "     AND year = :year;",
+            + "   VALUES (:caseId, "
+            + "           :appealType, "
+            + "           :year, "
+            + "           :sequence);",
             parameters
         );
     }
 
-    @Retryable(include = TransientDataAccessException.class)
-    private String selectAppealReferenceNumberForCase(
-        MapSqlParameterSource parameters
+    private Optional<String> selectAppealReferenceNumberForCase(
+        long caseId
     ) {
-        return jdbcTemplate.queryForObject(
-            " SELECT CONCAT(type, '/', sequence, '/', year) "
-            + " FROM ia_case_api.appeal_reference_numbers "
-            + "WHERE case_id = :caseId;",
+        String cachedAppealReferenceNumber = appealReferenceNumberByCaseId.getIfPresent(caseId);
+
+        if (cachedAppealReferenceNumber != null) {
+            return Optional.of(cachedAppealReferenceNumber);
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("caseId", caseId);
+
+        List<String> appealReferenceNumbers = jdbcTemplate.query(
+            "SELECT type, "
+            + "       sequence, "
+            + "       year "
+            + "  FROM ia_case_api.appeal_reference_numbers "
+            + " WHERE case_id = :caseId;",
             parameters,
-            String.class
+            (resultSet, rowNum) ->
+                resultSet.getString("type") + "/" + resultSet.getInt("sequence") + "/" + resultSet.getInt("year")
         );
+
+        if (appealReferenceNumbers.isEmpty()) {
+            return Optional.empty();
+        }
+
+        appealReferenceNumberByCaseId.put(caseId, appealReferenceNumbers.get(0));
+
+        return Optional.of(appealReferenceNumbers.get(0));
+    }
+
+    private static final class SequenceBlock {
+
+        private int next = 1;
+        private int last = 0;
     }
 }
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure;
+
+import uk.gov.hmcts.reform.iacaseapi.domain.RequiredFieldMissingException;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
+
+/*
+Case details handed to handlers while a callback is dispatched. The dispatcher creates one per
+callback and repoints the case data (and state, once state handlers have run) between handlers,
+rather than copying the case details for every handler it visits.
+*/
+public class DispatchCaseDetails<T extends CaseData> extends CaseDetails<T> {
+
+    private State state;
+    private T caseData;
+
+    public DispatchCaseDetails(
+        CaseDetails<T> caseDetails,
+        T caseData
+    ) {
+        super(
+            caseDetails.getId(),
+            caseDetails.getJurisdiction(),
+            caseDetails.getState(),
+            caseData,
+            caseDetails.getCreatedDate(),
+            caseDetails.getSecurityClassification(),
+            caseDetails.getSupplementaryData()
+        );
+        this.state = caseDetails.getState();
+        this.caseData = caseData;
+    }
+
+    @Override
+    public State getState() {
+
+        return state;
+    }
+
+    @Override
+    public T getCaseData() {
+
+        if (caseData == null) {
+            throw new RequiredFieldMissingException("caseData field is required");
+        }
+
+        return caseData;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+
+    void setCaseData(T caseData) {
+        this.caseData = caseData;
+    }
+}
@@ -14,16 +14,22 @@ import uk.gov.hmcts.reform.iacaseapi.domain.handlers.PostSubmitCallbackHandler;
 @Component
 public class PostSubmitCallbackDispatcher<T extends CaseData> {
 
+    private static final String SUBMITTED_STAGE = "submitted";
+
     private final List<PostSubmitCallbackHandler<T>> sortedCallbackHandlers;
+    private final CallbackHandlerMetrics callbackHandlerMetrics;
 
     public PostSubmitCallbackDispatcher(
-        List<PostSubmitCallbackHandler<T>> callbackHandlers
+        List<PostSubmitCallbackHandler<T>> callbackHandlers,
+        CallbackHandlerMetrics callbackHandlerMetrics
     ) {
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
+        requireNonNull(callbackHandlerMetrics, "callbackHandlerMetrics must not be null");
         this.sortedCallbackHandlers = callbackHandlers.stream()
             // sorting handlers by handler class name
             .sorted(Comparator.comparing(h -> h.getClass().getSimpleName()))
             .collect(Collectors.toList());
+        this.callbackHandlerMetrics = callbackHandlerMetrics;
     }
 
     public PostSubmitCallbackResponse handle(
@@ -36,10 +42,18 @@ public class PostSubmitCallbackDispatcher<T extends CaseData> {
 
         for (PostSubmitCallbackHandler<T> callbackHandler : sortedCallbackHandlers) {
 
-            if (callbackHandler.canHandle(callback)) {
+            boolean canHandle = callbackHandler.canHandle(callback);
+
+            callbackHandlerMetrics.recordCanHandle(
+                callbackHandler, callback.getEvent(), SUBMITTED_STAGE, String.valueOf(callbackHandler.getDispatchPriority()), canHandle);
+
+            if (canHandle) {
 
                 PostSubmitCallbackResponse callbackResponseFromHandler =
-                    callbackHandler.handle(callback);
+                    callbackHandlerMetrics.recordHandle(
+                        callbackHandler, callback.getEvent(), SUBMITTED_STAGE, String.valueOf(callbackHandler.getDispatchPriority()),
+                        () -> callbackHandler.handle(callback)
+                    );
 
                 callbackResponseFromHandler
                     .getConfirmationHeader()
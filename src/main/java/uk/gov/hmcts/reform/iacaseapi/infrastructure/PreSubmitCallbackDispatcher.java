@@ -2,12 +2,20 @@ package uk.gov.hmcts.reform.iacaseapi.infrastructure;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseSnapshot;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseData;
-import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.DispatchPriority;
@@ -19,32 +27,41 @@ import uk.gov.hmcts.reform.iacaseapi.infrastructure.eventvalidation.EventValid;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.eventvalidation.EventValidCheckers;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.security.CcdEventAuthorizor;
 
+@Slf4j
 @Component
 public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
+    private static final String STATE_HANDLER_PRIORITY = "state";
+
     private final CcdEventAuthorizor ccdEventAuthorizor;
     private final List<PreSubmitCallbackHandler<T>> sortedCallbackHandlers;
+    private final Map<Event, Map<PreSubmitCallbackStage, List<PreSubmitCallbackHandler<T>>>> routedCallbackHandlers;
     private final List<PreSubmitCallbackStateHandler<T>> callbackStateHandlers;
     private final EventValidCheckers<T> eventValidChecker;
+    private final CallbackHandlerMetrics callbackHandlerMetrics;
 
     public PreSubmitCallbackDispatcher(
             CcdEventAuthorizor ccdEventAuthorizor,
             List<PreSubmitCallbackHandler<T>> callbackHandlers,
             EventValidCheckers<T> eventValidChecker,
-            List<PreSubmitCallbackStateHandler<T>> callbackStateHandlers
+            List<PreSubmitCallbackStateHandler<T>> callbackStateHandlers,
+            CallbackHandlerMetrics callbackHandlerMetrics
     ) {
         requireNonNull(ccdEventAuthorizor, "ccdEventAuthorizor must not be null");
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
+        requireNonNull(callbackHandlerMetrics, "callbackHandlerMetrics must not be null");
         this.ccdEventAuthorizor = ccdEventAuthorizor;
         this.sortedCallbackHandlers = callbackHandlers.stream()
             // sorting handlers by handler class name
             .sorted(Comparator.comparing(h -> h.getClass().getSimpleName()))
             .collect(Collectors.toList());
+        this.routedCallbackHandlers = routeCallbackHandlers(sortedCallbackHandlers);
         this.eventValidChecker = eventValidChecker;
         this.callbackStateHandlers = callbackStateHandlers.stream()
             // sorting handlers by handler class name
             .sorted(Comparator.comparing(h -> h.getClass().getSimpleName()))
             .collect(Collectors.toList());
+        this.callbackHandlerMetrics = callbackHandlerMetrics;
     }
 
     public PreSubmitCallbackResponse<T> handle(
@@ -68,64 +85,107 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
         if (check.isValid()) {
 
-            dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.EARLIEST);
-            dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.EARLY);
+            List<PreSubmitCallbackHandler<T>> callbackHandlers = getCallbackHandlers(callbackStage, callback.getEvent());
+
+            DispatchCaseDetails<T> caseDetailsForHandlers =
+                new DispatchCaseDetails<>(callback.getCaseDetails(), callbackResponse.getData());
+
+            Callback<T> callbackForHandlers = new Callback<>(
+                caseDetailsForHandlers,
+                callback.getCaseDetailsBefore(),
+                callback.getEvent()
+            );
 
-            State state = dispatchToStateHandlers(callbackStage, callback, callbackStateHandlers, callbackResponse);
+            dispatchToHandlers(callbackStage, callbackForHandlers, caseDetailsForHandlers, callbackHandlers, callbackResponse, DispatchPriority.EARLIEST);
+            dispatchToHandlers(callbackStage, callbackForHandlers, caseDetailsForHandlers, callbackHandlers, callbackResponse, DispatchPriority.EARLY);
+
+            State state = dispatchToStateHandlers(callbackStage, callbackForHandlers, caseDetailsForHandlers, callbackStateHandlers, callbackResponse);
 
             if (state != null) {
                 callbackResponse = new PreSubmitCallbackResponse<>(callbackResponse.getData(), state);
-                callback = new Callback<>(
-                    new CaseDetails<>(
-                        callback.getCaseDetails().getId(),
-                        callback.getCaseDetails().getJurisdiction(),
-                        state,
-                        callbackResponse.getData(),
-                        callback.getCaseDetails().getCreatedDate(),
-                        callback.getCaseDetails().getSecurityClassification(),
-                        callback.getCaseDetails().getSupplementaryData()
-                    ),
-                    callback.getCaseDetailsBefore(),
-                    callback.getEvent()
-                );
+                caseDetailsForHandlers.setState(state);
             }
 
-            dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.LATE);
-            dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.LATEST);
-            dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.LAST);
+            dispatchToHandlers(callbackStage, callbackForHandlers, caseDetailsForHandlers, callbackHandlers, callbackResponse, DispatchPriority.LATE);
+            dispatchToHandlers(callbackStage, callbackForHandlers, caseDetailsForHandlers, callbackHandlers, callbackResponse, DispatchPriority.LATEST);
+            dispatchToHandlers(callbackStage, callbackForHandlers, caseDetailsForHandlers, callbackHandlers, callbackResponse, DispatchPriority.LAST);
         } else {
             callbackResponse.addError(check.getInvalidReason());
         }
         return callbackResponse;
     }
 
+    private List<PreSubmitCallbackHandler<T>> getCallbackHandlers(
+        PreSubmitCallbackStage callbackStage,
+        Event event
+    ) {
+        Map<PreSubmitCallbackStage, List<PreSubmitCallbackHandler<T>>> routesForEvent =
+            event == null ? null : routedCallbackHandlers.get(event);
+
+        if (routesForEvent == null) {
+            return sortedCallbackHandlers;
+        }
+
+        return routesForEvent.get(callbackStage);
+    }
+
+    private static <T extends CaseData> Map<Event, Map<PreSubmitCallbackStage, List<PreSubmitCallbackHandler<T>>>> routeCallbackHandlers(
+        List<PreSubmitCallbackHandler<T>> sortedCallbackHandlers
+    ) {
+        Map<Event, Map<PreSubmitCallbackStage, List<PreSubmitCallbackHandler<T>>>> routes = new EnumMap<>(Event.class);
+
+        for (Event event : Event.values()) {
+            Map<PreSubmitCallbackStage, List<PreSubmitCallbackHandler<T>>> routesForEvent = new EnumMap<>(PreSubmitCallbackStage.class);
+            for (PreSubmitCallbackStage callbackStage : PreSubmitCallbackStage.values()) {
+                routesForEvent.put(callbackStage, new ArrayList<>());
+            }
+            routes.put(event, routesForEvent);
+        }
+
+        // handlers are visited in name order, so every route keeps the alphabetical order within each priority
+        for (PreSubmitCallbackHandler<T> callbackHandler : sortedCallbackHandlers) {
+
+            Set<Event> events = orAll(callbackHandler.getHandledEvents(), Event.class);
+            Set<PreSubmitCallbackStage> callbackStages = orAll(callbackHandler.getHandledStages(), PreSubmitCallbackStage.class);
+
+            for (Event event : events) {
+                for (PreSubmitCallbackStage callbackStage : callbackStages) {
+                    routes.get(event).get(callbackStage).add(callbackHandler);
+                }
+            }
+        }
+
+        return routes;
+    }
+
+    private static <E extends Enum<E>> Set<E> orAll(Set<E> declared, Class<E> type) {
+        return declared == null || declared.isEmpty() ? EnumSet.allOf(type) : declared;
+    }
+
     private State dispatchToStateHandlers(
         PreSubmitCallbackStage callbackStage,
-        Callback<T> callback,
+        Callback<T> callbackForHandler,
+        DispatchCaseDetails<T> caseDetailsForHandler,
         List<PreSubmitCallbackStateHandler<T>> callbackStateHandlers,
         PreSubmitCallbackResponse<T> callbackResponse) {
 
         State finalState = null;
         for (PreSubmitCallbackStateHandler<T> callbackStateHandler : callbackStateHandlers) {
 
-            Callback<T> callbackForHandler = new Callback<>(
-                new CaseDetails<>(
-                    callback.getCaseDetails().getId(),
-                    callback.getCaseDetails().getJurisdiction(),
-                    callback.getCaseDetails().getState(),
-                    callbackResponse.getData(),
-                    callback.getCaseDetails().getCreatedDate(),
-                    callback.getCaseDetails().getSecurityClassification(),
-                    callback.getCaseDetails().getSupplementaryData()
-                ),
-                callback.getCaseDetailsBefore(),
-                callback.getEvent()
-            );
+            caseDetailsForHandler.setCaseData(callbackResponse.getData());
+
+            boolean canHandle = callbackStateHandler.canHandle(callbackStage, callbackForHandler);
+
+            callbackHandlerMetrics.recordCanHandle(
+                callbackStateHandler, callbackForHandler.getEvent(), callbackStage.toString(), STATE_HANDLER_PRIORITY, canHandle);
 
-            if (callbackStateHandler.canHandle(callbackStage, callbackForHandler)) {
+            if (canHandle) {
 
                 PreSubmitCallbackResponse<T> callbackResponseFromHandler =
-                    callbackStateHandler.handle(callbackStage, callbackForHandler, callbackResponse);
+                    callbackHandlerMetrics.recordHandle(
+                        callbackStateHandler, callbackForHandler.getEvent(), callbackStage.toString(), STATE_HANDLER_PRIORITY,
+                        () -> callbackStateHandler.handle(callbackStage, callbackForHandler, callbackResponse)
+                    );
 
                 finalState = callbackResponseFromHandler.getState();
 
@@ -141,7 +201,8 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
     private void dispatchToHandlers(
         PreSubmitCallbackStage callbackStage,
-        Callback<T> callback,
+        Callback<T> callbackForHandler,
+        DispatchCaseDetails<T> caseDetailsForHandler,
         List<PreSubmitCallbackHandler<T>> callbackHandlers,
         PreSubmitCallbackResponse<T> callbackResponse,
         DispatchPriority dispatchPriority
@@ -150,24 +211,30 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
             if (callbackHandler.getDispatchPriority() == dispatchPriority) {
 
-                Callback<T> callbackForHandler = new Callback<>(
-                    new CaseDetails<>(
-                        callback.getCaseDetails().getId(),
-                        callback.getCaseDetails().getJurisdiction(),
-                        callback.getCaseDetails().getState(),
-                        callbackResponse.getData(),
-                        callback.getCaseDetails().getCreatedDate(),
-                        callback.getCaseDetails().getSecurityClassification(),
-                        callback.getCaseDetails().getSupplementaryData()
-                    ),
-                    callback.getCaseDetailsBefore(),
-                    callback.getEvent()
-                );
-
-                if (callbackHandler.canHandle(callbackStage, callbackForHandler)) {
+                caseDetailsForHandler.setCaseData(callbackResponse.getData());
+
+                boolean canHandle = callbackHandler.canHandle(callbackStage, callbackForHandler);
+
+                callbackHandlerMetrics.recordCanHandle(
+                    callbackHandler, callbackForHandler.getEvent(), callbackStage.toString(), dispatchPriority.toString(), canHandle);
+
+                if (canHandle) {
+
+                    AsylumCaseSnapshot caseDataBefore = snapshotForDiagnostics(callbackResponse.getData());
 
                     PreSubmitCallbackResponse<T> callbackResponseFromHandler =
-                        callbackHandler.handle(callbackStage, callbackForHandler);
+                        callbackHandlerMetrics.recordHandle(
+                            callbackHandler, callbackForHandler.getEvent(), callbackStage.toString(), dispatchPriority.toString(),
+                            () -> callbackHandler.handle(callbackStage, callbackForHandler)
+                        );
+
+                    if (caseDataBefore != null) {
+                        log.debug(
+                            "Handler `{}` changed fields `{}`",
+                            callbackHandler.getClass().getSimpleName(),
+                            caseDataBefore.getChanges().keySet()
+                        );
+                    }
 
                     callbackResponse.setData(callbackResponseFromHandler.getData());
 
@@ -178,4 +245,10 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
             }
         }
     }
+
+    private AsylumCaseSnapshot snapshotForDiagnostics(T caseData) {
+        return log.isDebugEnabled() && caseData instanceof AsylumCase
+            ? ((AsylumCase) caseData).snapshot()
+            : null;
+    }
 }
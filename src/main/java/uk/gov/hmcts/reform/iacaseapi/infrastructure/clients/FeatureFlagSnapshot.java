@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.clients;
+
+import com.launchdarkly.sdk.LDUser;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/*
+Feature flag values evaluated while serving one request, so that every handler in a dispatch sees the same value
+for a flag and LaunchDarkly is asked about each flag at most once per callback.
+*/
+@Component
+@RequestScope
+public class FeatureFlagSnapshot {
+
+    private final Map<String, Boolean> values = new ConcurrentHashMap<>();
+    private volatile LDUser ldUser;
+
+    public LDUser getLdUser(Supplier<LDUser> ldUserSupplier) {
+
+        LDUser current = ldUser;
+
+        if (current == null) {
+            current = ldUserSupplier.get();
+            ldUser = current;
+        }
+
+        return current;
+    }
+
+    public boolean getValue(String key, Boolean defaultValue, BooleanSupplier evaluation) {
+        return values.computeIfAbsent(key + ":" + defaultValue, snapshotKey -> evaluation.getAsBoolean());
+    }
+}
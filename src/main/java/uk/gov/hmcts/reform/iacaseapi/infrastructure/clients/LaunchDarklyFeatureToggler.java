@@ -2,6 +2,10 @@ package uk.gov.hmcts.reform.iacaseapi.infrastructure.clients;
 
 import com.launchdarkly.sdk.LDUser;
 import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 import uk.gov.hmcts.reform.iacaseapi.domain.service.FeatureToggler;
@@ -9,26 +13,51 @@ import uk.gov.hmcts.reform.iacaseapi.domain.service.FeatureToggler;
 @Service
 public class LaunchDarklyFeatureToggler implements FeatureToggler {
 
+    public static final String LOOKUP_COUNTER = "ia.featureFlag.lookups";
+    public static final String EVALUATION_COUNTER = "ia.featureFlag.evaluations";
+
     private LDClientInterface ldClient;
     private UserDetails userDetails;
+    private FeatureFlagSnapshot featureFlagSnapshot;
+    private MeterRegistry meterRegistry;
+    private final Map<String, Counter> lookupCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> evaluationCounters = new ConcurrentHashMap<>();
 
     public LaunchDarklyFeatureToggler(LDClientInterface ldClient,
-                                      UserDetails userDetails) {
+                                      UserDetails userDetails,
+                                      FeatureFlagSnapshot featureFlagSnapshot,
+                                      MeterRegistry meterRegistry) {
         this.ldClient = ldClient;
         this.userDetails = userDetails;
+        this.featureFlagSnapshot = featureFlagSnapshot;
+        this.meterRegistry = meterRegistry;
     }
 
     public boolean getValue(String key, Boolean defaultValue) {
 
+        lookupCounters.computeIfAbsent(key, flag -> meterRegistry.counter(LOOKUP_COUNTER, "flag", flag)).increment();
+
+        return featureFlagSnapshot.getValue(key, defaultValue, () -> evaluate(key, defaultValue));
+    }
+
+    private boolean evaluate(String key, Boolean defaultValue) {
+
+        evaluationCounters.computeIfAbsent(key, flag -> meterRegistry.counter(EVALUATION_COUNTER, "flag", flag)).increment();
+
         return ldClient.boolVariation(
             key,
-            new LDUser.Builder(userDetails.getId())
-                .firstName(userDetails.getForename())
-                .lastName(userDetails.getSurname())
-                .email(userDetails.getEmailAddress())
-                .build(),
+            featureFlagSnapshot.getLdUser(this::buildLdUser),
             defaultValue
         );
     }
 
+    private LDUser buildLdUser() {
+
+        return new LDUser.Builder(userDetails.getId())
+            .firstName(userDetails.getForename())
+            .lastName(userDetails.getSurname())
+            .email(userDetails.getEmailAddress())
+            .build();
+    }
+
 }
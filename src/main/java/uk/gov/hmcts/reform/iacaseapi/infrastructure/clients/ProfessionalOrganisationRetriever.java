@@ -25,23 +25,43 @@ public class ProfessionalOrganisationRetriever {
     private final UserDetailsProvider userDetailsProvider;
     private final String refDataApiUrl;
     private final String refDataApiPath;
+    private final ProfessionalRefDataCache professionalRefDataCache;
 
     public ProfessionalOrganisationRetriever(RestTemplate restTemplate,
                                              AuthTokenGenerator serviceAuthTokenGenerator,
                                              UserDetailsProvider userDetailsProvider,
                                              @Value("${prof.ref.data.url}") String refDataApiUrl,
-                                             @Value("${prof.ref.data.path.org.organisation}") String refDataApiPath) {
+                                             @Value("${prof.ref.data.path.org.organisation}") String refDataApiPath,
+                                             ProfessionalRefDataCache professionalRefDataCache) {
         this.restTemplate = restTemplate;
         this.serviceAuthTokenGenerator = serviceAuthTokenGenerator;
         this.userDetailsProvider = userDetailsProvider;
         this.refDataApiUrl = refDataApiUrl;
         this.refDataApiPath = refDataApiPath;
+        this.professionalRefDataCache = professionalRefDataCache;
     }
 
     public OrganisationEntityResponse retrieve() {
 
-        final String serviceAuthorizationToken = serviceAuthTokenGenerator.generate();
         final UserDetails userDetails = userDetailsProvider.getUserDetails();
+
+        OrganisationEntityResponse response = null;
+
+        try {
+            response = professionalRefDataCache.getOrganisation(userDetails.getId(), () -> fetch(userDetails));
+
+        } catch (ReferenceDataIntegrationException ex) {
+            log.warn("Cannot fetch Professional Reference data, exception message: " + ex.getCause().getMessage(), ex.getCause());
+        }
+
+        log.info("Response returned: {} userId[{}]", String.valueOf(response), userDetails.getId());
+
+        return response;
+    }
+
+    private OrganisationEntityResponse fetch(UserDetails userDetails) {
+
+        final String serviceAuthorizationToken = serviceAuthTokenGenerator.generate();
         final String accessToken = userDetails.getAccessToken();
 
         HttpHeaders headers = new HttpHeaders();
@@ -52,27 +72,23 @@ public class ProfessionalOrganisationRetriever {
 
         HttpEntity<String> requestEntity = new HttpEntity<>(headers);
 
-        OrganisationEntityResponse response = null;
-
         log.info("Calling Ref Data endpoint: {}", refDataApiUrl + refDataApiPath);
 
         try {
-            response =
-                restTemplate
-                    .exchange(
-                        refDataApiUrl + refDataApiPath,
-                        HttpMethod.GET,
-                        requestEntity,
-                        new ParameterizedTypeReference<OrganisationEntityResponse>() {
-                        }
-                    ).getBody();
+            return restTemplate
+                .exchange(
+                    refDataApiUrl + refDataApiPath,
+                    HttpMethod.GET,
+                    requestEntity,
+                    new ParameterizedTypeReference<OrganisationEntityResponse>() {
+                    }
+                ).getBody();
 
         } catch (Throwable ex) {
-            log.warn("Cannot fetch Professional Reference data, exception message: " + ex.getMessage(), ex);
+            throw new ReferenceDataIntegrationException(
+                "Couldn't retrieve organisation using API: " + refDataApiUrl + refDataApiPath,
+                ex
+            );
         }
-
-        log.info("Response returned: {} userId[{}]", String.valueOf(response), userDetails.getId());
-
-        return response;
     }
 }
@@ -0,0 +1,257 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.clients;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUser;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUsersResponse;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ref.OrganisationEntityResponse;
+
+/*
+Professional reference data for the organisation of the calling user. The external PRD endpoints resolve the
+organisation from the caller's token, so entries are keyed by the caller's IDAM id, which belongs to exactly one
+organisation. Once an entry is older than the refresh interval it is still served, and the first caller to see
+that starts a fetch in the background, so no callback waits on PRD for data it already has. A failed fetch pushes
+the next attempt back by another interval, and the previous value keeps being served until it expires.
+Fetches must therefore not depend on the calling request, e.g. by reading the user's token lazily.
+*/
+@Slf4j
+@Component
+public class ProfessionalRefDataCache {
+
+    public static final String REQUEST_COUNTER = "ia.refData.cache.requests";
+    public static final String ORGANISATION_CACHE = "prdOrganisation";
+    public static final String ORGANISATION_USERS_CACHE = "prdOrganisationUsers";
+
+    private final long refreshAfterInSeconds;
+    private final DateProvider dateProvider;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final Cache<String, CachedValue<OrganisationEntityResponse>> organisations;
+    private final Cache<String, CachedValue<OrganisationUsers>> organisationUsers;
+
+    public ProfessionalRefDataCache(
+        @Value("${prof.ref.data.cache.refreshAfterInSeconds:300}") long refreshAfterInSeconds,
+        @Value("${prof.ref.data.cache.expireAfterInSeconds:3600}") long expireAfterInSeconds,
+        @Value("${prof.ref.data.cache.maximumSize:500}") long maximumSize,
+        DateProvider dateProvider,
+        MeterRegistry meterRegistry,
+        @Qualifier("refDataRefreshExecutor") Executor refreshExecutor
+    ) {
+        requireNonNull(dateProvider, "dateProvider must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        requireNonNull(refreshExecutor, "refreshExecutor must not be null");
+
+        this.refreshAfterInSeconds = refreshAfterInSeconds;
+        this.dateProvider = dateProvider;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.organisations = buildCache(expireAfterInSeconds, maximumSize, ORGANISATION_CACHE);
+        this.organisationUsers = buildCache(expireAfterInSeconds, maximumSize, ORGANISATION_USERS_CACHE);
+    }
+
+    public OrganisationEntityResponse getOrganisation(
+        String userId,
+        Supplier<OrganisationEntityResponse> fetch
+    ) {
+        return get(organisations, ORGANISATION_CACHE, userId, fetch, Function.identity());
+    }
+
+    public ProfessionalUsersResponse getOrganisationUsers(
+        String userId,
+        Supplier<ProfessionalUsersResponse> fetch
+    ) {
+        OrganisationUsers users = get(organisationUsers, ORGANISATION_USERS_CACHE, userId, fetch, OrganisationUsers::new);
+
+        return users == null ? null : users.response;
+    }
+
+    /*
+    Whether a user is still active decides what they may be given access to, so it is never answered from the
+    cache. The organisation users are always fetched, and the response replaces the cached one for other lookups.
+    */
+    public Optional<ProfessionalUser> findOrganisationUser(
+        String userId,
+        String organisationUserId,
+        Supplier<ProfessionalUsersResponse> fetch
+    ) {
+        ProfessionalUsersResponse response = fetch.get();
+
+        record(ORGANISATION_USERS_CACHE, "bypass");
+
+        if (response == null) {
+            return Optional.empty();
+        }
+
+        OrganisationUsers users = new OrganisationUsers(response);
+
+        if (userId != null) {
+            LocalDateTime fetchedAt = dateProvider.nowWithTime();
+            organisationUsers.put(userId, new CachedValue<>(users, fetchedAt, fetchedAt.plusSeconds(refreshAfterInSeconds)));
+        }
+
+        return organisationUserId == null ? Optional.empty() : users.find(organisationUserId);
+    }
+
+    private <R, V> V get(
+        Cache<String, CachedValue<V>> cache,
+        String cacheName,
+        String userId,
+        Supplier<R> fetch,
+        Function<R, V> toValue
+    ) {
+        if (userId == null) {
+            R response = fetch.get();
+            return response == null ? null : toValue.apply(response);
+        }
+
+        LocalDateTime now = dateProvider.nowWithTime();
+        CachedValue<V> cached = cache.getIfPresent(userId);
+
+        if (cached != null) {
+
+            if (now.isBefore(cached.refreshAt)) {
+                record(cacheName, "hit");
+                return cached.value;
+            }
+
+            if (cached.refreshing.compareAndSet(false, true)) {
+                refreshInBackground(cache, cacheName, userId, cached, fetch, toValue);
+            }
+
+            record(cacheName, "stale");
+            return cached.value;
+        }
+
+        R response = fetch.get();
+
+        record(cacheName, "miss");
+
+        if (response == null) {
+            return null;
+        }
+
+        V value = toValue.apply(response);
+        cache.put(userId, new CachedValue<>(value, now, now.plusSeconds(refreshAfterInSeconds)));
+
+        return value;
+    }
+
+    private <R, V> void refreshInBackground(
+        Cache<String, CachedValue<V>> cache,
+        String cacheName,
+        String userId,
+        CachedValue<V> cached,
+        Supplier<R> fetch,
+        Function<R, V> toValue
+    ) {
+        try {
+            refreshExecutor.execute(() -> {
+
+                try {
+                    R response = fetch.get();
+                    if (response != null) {
+                        LocalDateTime fetchedAt = dateProvider.nowWithTime();
+                        cache.asMap().replace(
+                            userId,
+                            cached,
+                            new CachedValue<>(toValue.apply(response), fetchedAt, fetchedAt.plusSeconds(refreshAfterInSeconds))
+                        );
+                        record(cacheName, "refresh");
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Unable to refresh {} for user {}, serving value fetched at {}", cacheName, userId, cached.fetchedAt, e);
+                }
+
+                // left in place rather than replaced, which would also push back its expiry
+                cached.refreshAt = dateProvider.nowWithTime().plusSeconds(refreshAfterInSeconds);
+                cached.refreshing.set(false);
+            });
+
+        } catch (RejectedExecutionException e) {
+            cached.refreshing.set(false);
+        }
+    }
+
+    private void record(String cacheName, String result) {
+        meterRegistry.counter(REQUEST_COUNTER, "cache", cacheName, "result", result).increment();
+    }
+
+    private <V> Cache<String, CachedValue<V>> buildCache(long expireAfterInSeconds, long maximumSize, String cacheName) {
+
+        Cache<String, CachedValue<V>> cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(expireAfterInSeconds))
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+
+        return cache;
+    }
+
+    private static final class CachedValue<V> {
+
+        private final V value;
+        private final LocalDateTime fetchedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile LocalDateTime refreshAt;
+
+        private CachedValue(V value, LocalDateTime fetchedAt, LocalDateTime refreshAt) {
+            this.value = value;
+            this.fetchedAt = fetchedAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    private static final class OrganisationUsers {
+
+        private final ProfessionalUsersResponse response;
+        private volatile Map<String, ProfessionalUser> usersByIdentifier;
+
+        private OrganisationUsers(ProfessionalUsersResponse response) {
+            this.response = response;
+        }
+
+        private Optional<ProfessionalUser> find(String userIdentifier) {
+
+            Map<String, ProfessionalUser> index = usersByIdentifier;
+
+            if (index == null) {
+                index = new HashMap<>();
+                if (response.getUsers() != null) {
+                    for (ProfessionalUser user : response.getUsers()) {
+                        if (user.getUserIdentifier() != null) {
+                            index.putIfAbsent(user.getUserIdentifier().toLowerCase(Locale.ROOT), user);
+                        }
+                    }
+                }
+                index = Collections.unmodifiableMap(index);
+                usersByIdentifier = index;
+            }
+
+            return Optional.ofNullable(index.get(userIdentifier.toLowerCase(Locale.ROOT)));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.iacaseapi.infrastructure.clients;
 
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUser;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUsersResponse;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 
@@ -25,23 +27,39 @@ public class ProfessionalUsersRetriever {
     private final UserDetails userDetails;
     private final String refDataApiUrl;
     private final String refDataApiPath;
+    private final ProfessionalRefDataCache professionalRefDataCache;
 
     public ProfessionalUsersRetriever(RestTemplate restTemplate,
                                       AuthTokenGenerator serviceAuthTokenGenerator,
                                       UserDetails userDetails,
                                       @Value("${prof.ref.data.url}") String refDataApiUrl,
-                                      @Value("${prof.ref.data.path.org.users}") String refDataApiPath) {
+                                      @Value("${prof.ref.data.path.org.users}") String refDataApiPath,
+                                      ProfessionalRefDataCache professionalRefDataCache) {
         this.restTemplate = restTemplate;
         this.serviceAuthTokenGenerator = serviceAuthTokenGenerator;
         this.userDetails = userDetails;
         this.refDataApiUrl = refDataApiUrl;
         this.refDataApiPath = refDataApiPath;
+        this.professionalRefDataCache = professionalRefDataCache;
     }
 
+    /*
+    The access token is read on the calling thread, as the cache may run the fetch in the background
+    once the request has completed.
+    */
     public ProfessionalUsersResponse retrieve() {
+        final String accessToken = userDetails.getAccessToken();
+        return professionalRefDataCache.getOrganisationUsers(userDetails.getId(), () -> fetch(accessToken));
+    }
 
-        final String serviceAuthorizationToken = serviceAuthTokenGenerator.generate();
+    public Optional<ProfessionalUser> findOrganisationUser(String userIdentifier) {
         final String accessToken = userDetails.getAccessToken();
+        return professionalRefDataCache.findOrganisationUser(userDetails.getId(), userIdentifier, () -> fetch(accessToken));
+    }
+
+    private ProfessionalUsersResponse fetch(String accessToken) {
+
+        final String serviceAuthorizationToken = serviceAuthTokenGenerator.generate();
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -76,7 +94,5 @@ public class ProfessionalUsersRetriever {
         log.info("response returned: {}", response);
 
         return response;
-
-
     }
 }
@@ -16,5 +16,10 @@ public class Token {
 
     private String accessToken;
     private String scope;
+    private Long expiresIn;
+
+    public Token(String accessToken, String scope) {
+        this(accessToken, scope, null);
+    }
 
 }
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/*
+Count based circuit breaker over the outcomes of the last calls to one downstream.
+Once at least the minimum number of calls is recorded and the share of failures reaches the threshold the
+circuit opens and calls are refused until the open state duration has passed. A few trial calls are then let
+through: if they all succeed the circuit closes again, the first failure opens it for another period.
+*/
+public class DownstreamCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final long openStateDurationInNanos;
+    private final int permittedCallsInHalfOpenState;
+    private final LongSupplier nanoTime;
+
+    private final boolean[] failedOutcomes;
+    private int recordedCalls;
+    private int nextOutcome;
+    private int failedCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int trialCallsStarted;
+    private int trialCallsSucceeded;
+
+    public DownstreamCircuitBreaker(
+        int failureRateThreshold,
+        int slidingWindowSize,
+        int minimumNumberOfCalls,
+        int openStateDurationInSeconds,
+        int permittedCallsInHalfOpenState
+    ) {
+        this(
+            failureRateThreshold,
+            slidingWindowSize,
+            minimumNumberOfCalls,
+            openStateDurationInSeconds,
+            permittedCallsInHalfOpenState,
+            System::nanoTime
+        );
+    }
+
+    DownstreamCircuitBreaker(
+        int failureRateThreshold,
+        int slidingWindowSize,
+        int minimumNumberOfCalls,
+        int openStateDurationInSeconds,
+        int permittedCallsInHalfOpenState,
+        LongSupplier nanoTime
+    ) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+        }
+        if (slidingWindowSize < 1) {
+            throw new IllegalArgumentException("slidingWindowSize must be positive");
+        }
+        if (permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("permittedCallsInHalfOpenState must be positive");
+        }
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumNumberOfCalls = Math.max(1, Math.min(minimumNumberOfCalls, slidingWindowSize));
+        this.openStateDurationInNanos = TimeUnit.SECONDS.toNanos(openStateDurationInSeconds);
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        this.nanoTime = nanoTime;
+        this.failedOutcomes = new boolean[slidingWindowSize];
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /*
+    Percentage of failed calls in the window, or -1 while fewer than the minimum number of calls are recorded.
+    */
+    public synchronized float getFailureRate() {
+
+        if (recordedCalls < minimumNumberOfCalls) {
+            return -1f;
+        }
+
+        return failedCalls * 100f / recordedCalls;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+
+        if (state == State.OPEN) {
+
+            if (nanoTime.getAsLong() - openedAt < openStateDurationInNanos) {
+                return false;
+            }
+
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+
+            if (trialCallsStarted >= permittedCallsInHalfOpenState) {
+                return false;
+            }
+
+            trialCallsStarted++;
+        }
+
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+
+        if (state == State.HALF_OPEN) {
+
+            trialCallsSucceeded++;
+            if (trialCallsSucceeded >= permittedCallsInHalfOpenState) {
+                transitionTo(State.CLOSED);
+            }
+
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+
+        if (state == State.HALF_OPEN) {
+
+            transitionTo(State.OPEN);
+
+        } else if (state == State.CLOSED) {
+
+            record(true);
+
+            if (recordedCalls >= minimumNumberOfCalls
+                && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void record(boolean failed) {
+
+        if (recordedCalls == failedOutcomes.length) {
+            if (failedOutcomes[nextOutcome]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        failedOutcomes[nextOutcome] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+
+        nextOutcome = (nextOutcome + 1) % failedOutcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+
+        if (newState == State.OPEN) {
+            openedAt = nanoTime.getAsLong();
+        }
+
+        recordedCalls = 0;
+        nextOutcome = 0;
+        failedCalls = 0;
+        trialCallsStarted = 0;
+        trialCallsSucceeded = 0;
+
+        state = newState;
+    }
+}
@@ -0,0 +1,233 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpHost;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+Bulkhead and circuit breaker for the calls to one downstream. At most maxConcurrentCalls requests are in flight
+at once, so a slow downstream holds a bounded number of request threads while callbacks to other services carry on.
+A request that cannot get a permit within maxWaitForPermitInMillis, or that arrives while the circuit is open,
+fails straight away. Connection errors, timeouts and 5xx responses count as failures.
+*/
+public class DownstreamGuard {
+
+    public static final String CALLS_COUNTER = "ia.downstream.calls";
+    public static final String ACTIVE_CALLS_GAUGE = "ia.downstream.calls.active";
+    public static final String CIRCUIT_STATE_GAUGE = "ia.downstream.circuit.state";
+
+    private final String name;
+    private final HttpHost httpHost;
+    private final int maxConcurrentCalls;
+    private final long maxWaitForPermitInMillis;
+    private final Semaphore permits;
+    private final DownstreamCircuitBreaker circuitBreaker;
+    private final Counter successfulCalls;
+    private final Counter failedCalls;
+    private final Counter rejectedCalls;
+    private final Counter shortCircuitedCalls;
+
+    /*
+    circuitBreaker may be null, in which case only the concurrency limit applies.
+    */
+    public DownstreamGuard(
+        String name,
+        HttpHost httpHost,
+        int maxConcurrentCalls,
+        long maxWaitForPermitInMillis,
+        DownstreamCircuitBreaker circuitBreaker,
+        MeterRegistry meterRegistry
+    ) {
+        requireNonNull(name, "name must not be null");
+        requireNonNull(httpHost, "httpHost must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+
+        this.name = name;
+        this.httpHost = httpHost;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitForPermitInMillis = maxWaitForPermitInMillis;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = circuitBreaker;
+        this.successfulCalls = callsCounter(meterRegistry, "success");
+        this.failedCalls = callsCounter(meterRegistry, "failure");
+        this.rejectedCalls = callsCounter(meterRegistry, "rejected");
+        this.shortCircuitedCalls = callsCounter(meterRegistry, "short_circuited");
+
+        Gauge.builder(ACTIVE_CALLS_GAUGE, this, DownstreamGuard::getActiveCalls)
+            .tags(Tags.of("downstream", name))
+            .register(meterRegistry);
+
+        if (circuitBreaker != null) {
+            Gauge.builder(CIRCUIT_STATE_GAUGE, circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tags(Tags.of("downstream", name))
+                .register(meterRegistry);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HttpHost getHttpHost() {
+        return httpHost;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    public DownstreamCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public ClientHttpResponse execute(
+        HttpRequest request,
+        byte[] body,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+
+        if (!acquirePermit()) {
+            rejectedCalls.increment();
+            throw new DownstreamUnavailableException(
+                "Downstream " + name + " already has " + maxConcurrentCalls + " calls in flight"
+            );
+        }
+
+        boolean permitHandedOver = false;
+
+        try {
+
+            if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+                shortCircuitedCalls.increment();
+                throw new DownstreamUnavailableException("Circuit breaker for downstream " + name + " is open");
+            }
+
+            ClientHttpResponse response;
+
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException | RuntimeException e) {
+                onFailure();
+                throw e;
+            }
+
+            if (response.getRawStatusCode() >= 500) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+
+            ClientHttpResponse guardedResponse = new PermitReleasingResponse(response);
+            permitHandedOver = true;
+            return guardedResponse;
+
+        } finally {
+            if (!permitHandedOver) {
+                permits.release();
+            }
+        }
+    }
+
+    private boolean acquirePermit() throws IOException {
+
+        if (maxWaitForPermitInMillis <= 0) {
+            return permits.tryAcquire();
+        }
+
+        try {
+            return permits.tryAcquire(maxWaitForPermitInMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DownstreamUnavailableException("Interrupted waiting to call downstream " + name);
+        }
+    }
+
+    private void onSuccess() {
+        successfulCalls.increment();
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private void onFailure() {
+        failedCalls.increment();
+        if (circuitBreaker != null) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private Counter callsCounter(MeterRegistry meterRegistry, String outcome) {
+        return meterRegistry.counter(CALLS_COUNTER, Tags.of("downstream", name, "outcome", outcome));
+    }
+
+    /*
+    The call is still in flight until its body has been read, so the permit is held until the response is closed.
+    */
+    private class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        PermitReleasingResponse(ClientHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return response.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return response.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.http.HttpHost;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/*
+Routes every request through the guard of the downstream whose host it is sent to.
+Requests to any other host go straight through.
+*/
+public class DownstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Map<HttpHost, DownstreamGuard> guardByHost = new LinkedHashMap<>();
+
+    public DownstreamGuardInterceptor(
+        Collection<DownstreamGuard> guards
+    ) {
+        requireNonNull(guards, "guards must not be null");
+
+        for (DownstreamGuard guard : guards) {
+
+            DownstreamGuard existingGuard = guardByHost.putIfAbsent(guard.getHttpHost(), guard);
+
+            if (existingGuard != null) {
+                throw new IllegalArgumentException(
+                    "Downstreams " + existingGuard.getName() + " and " + guard.getName()
+                    + " are both configured for " + guard.getHttpHost().toHostString()
+                );
+            }
+        }
+    }
+
+    public Collection<DownstreamGuard> getGuards() {
+        return Collections.unmodifiableCollection(guardByHost.values());
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+        HttpRequest request,
+        byte[] body,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+
+        DownstreamGuard guard = guardByHost.get(DownstreamHttpRequestFactory.toHttpHost(request.getURI()));
+
+        if (guard == null) {
+            return execution.execute(request, body);
+        }
+
+        return guard.execute(request, body, execution);
+    }
+}
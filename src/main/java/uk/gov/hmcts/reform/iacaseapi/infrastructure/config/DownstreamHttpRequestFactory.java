@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.util.Map;
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/*
+Applies the timeouts configured for a downstream to every request sent to its host.
+Requests to any other host use the default request config of the underlying client.
+*/
+public class DownstreamHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final Map<HttpHost, RequestConfig> requestConfigByHost;
+
+    public DownstreamHttpRequestFactory(
+        HttpClient httpClient,
+        Map<HttpHost, RequestConfig> requestConfigByHost
+    ) {
+        super(httpClient);
+        requireNonNull(requestConfigByHost, "requestConfigByHost must not be null");
+        this.requestConfigByHost = requestConfigByHost;
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+
+        RequestConfig requestConfig = requestConfigByHost.get(toHttpHost(uri));
+
+        if (requestConfig == null) {
+            return null;
+        }
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(requestConfig);
+        return context;
+    }
+
+    public static HttpHost toHttpHost(URI uri) {
+
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme();
+        int port = uri.getPort() > 0
+            ? uri.getPort()
+            : "https".equalsIgnoreCase(scheme) ? 443 : 80;
+
+        return new HttpHost(uri.getHost(), port, scheme);
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import java.io.IOException;
+
+/*
+Raised without calling a downstream whose circuit is open or whose concurrency limit is reached.
+RestTemplate reports it as a ResourceAccessException, the same way it reports a timeout.
+*/
+public class DownstreamUnavailableException extends IOException {
+
+    public DownstreamUnavailableException(String message) {
+        super(message);
+    }
+}
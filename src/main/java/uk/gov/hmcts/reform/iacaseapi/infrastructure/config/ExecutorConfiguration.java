@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    @Bean("caseWorkerLookupExecutor")
+    public ThreadPoolTaskExecutor caseWorkerLookupExecutor(
+        @Value("${ref-data-case-worker-api.lookup.threads:4}") int threads,
+        @Value("${ref-data-case-worker-api.lookup.queueCapacity:50}") int queueCapacity
+    ) {
+        return boundedExecutor("case-worker-lookup-", threads, queueCapacity);
+    }
+
+    /*
+    A refresh that cannot be queued is dropped rather than run on the calling thread, as the caller is
+    already being served the value being refreshed; the next caller to see it stale tries again.
+    */
+    @Bean("refDataRefreshExecutor")
+    public ThreadPoolTaskExecutor refDataRefreshExecutor(
+        @Value("${prof.ref.data.cache.refreshThreads:2}") int threads,
+        @Value("${prof.ref.data.cache.refreshQueueCapacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = boundedExecutor("ref-data-refresh-", threads, queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /*
+    A probe that cannot be queued is rejected rather than run on the calling thread, which would hold the
+    health request for as long as the probe takes; ServiceHealthProbes reports it DOWN instead.
+    */
+    @Bean("healthProbeExecutor")
+    public ThreadPoolTaskExecutor healthProbeExecutor(
+        @Value("${health.probeThreads:8}") int threads
+    ) {
+        ThreadPoolTaskExecutor executor = boundedExecutor("health-probe-", threads, threads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /*
+    Work is run on the calling thread once the queue is full, so a burst of lookups slows down the
+    callback that caused it rather than failing it.
+    */
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
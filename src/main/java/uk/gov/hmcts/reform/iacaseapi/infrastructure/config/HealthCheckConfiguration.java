@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 public class HealthCheckConfiguration {
 
     private Map<String, Map<String, String>> services = new HashMap<>();
+    private long cacheTimeToLiveInSeconds = 10;
+    private long probeTimeoutInMillis = 3000;
 
     public Map<String, Map<String, String>> getServices() {
         return services;
@@ -20,4 +22,20 @@ public class HealthCheckConfiguration {
     public void setServices(Map<String, Map<String, String>> services) {
         this.services = services;
     }
+
+    public long getCacheTimeToLiveInSeconds() {
+        return cacheTimeToLiveInSeconds;
+    }
+
+    public void setCacheTimeToLiveInSeconds(long cacheTimeToLiveInSeconds) {
+        this.cacheTimeToLiveInSeconds = cacheTimeToLiveInSeconds;
+    }
+
+    public long getProbeTimeoutInMillis() {
+        return probeTimeoutInMillis;
+    }
+
+    public void setProbeTimeoutInMillis(long probeTimeoutInMillis) {
+        this.probeTimeoutInMillis = probeTimeoutInMillis;
+    }
 }
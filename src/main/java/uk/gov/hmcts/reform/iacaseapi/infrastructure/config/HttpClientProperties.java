@@ -0,0 +1,212 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private int maxConnectionsTotal = 200;
+    private int maxConnectionsPerRoute = 20;
+    private int connectTimeoutInMillis = 5000;
+    private int readTimeoutInMillis = 60000;
+    private int connectionRequestTimeoutInMillis = 5000;
+    private int idleConnectionEvictionInSeconds = 30;
+    private int maxWaitForPermitInMillis = 0;
+    private boolean circuitBreakerEnabled = true;
+    private int failureRateThreshold = 50;
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private int openStateDurationInSeconds = 30;
+    private int permittedCallsInHalfOpenState = 2;
+    private Map<String, Downstream> downstreams = new HashMap<>();
+
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public int getConnectTimeoutInMillis() {
+        return connectTimeoutInMillis;
+    }
+
+    public void setConnectTimeoutInMillis(int connectTimeoutInMillis) {
+        this.connectTimeoutInMillis = connectTimeoutInMillis;
+    }
+
+    public int getReadTimeoutInMillis() {
+        return readTimeoutInMillis;
+    }
+
+    public void setReadTimeoutInMillis(int readTimeoutInMillis) {
+        this.readTimeoutInMillis = readTimeoutInMillis;
+    }
+
+    public int getConnectionRequestTimeoutInMillis() {
+        return connectionRequestTimeoutInMillis;
+    }
+
+    public void setConnectionRequestTimeoutInMillis(int connectionRequestTimeoutInMillis) {
+        this.connectionRequestTimeoutInMillis = connectionRequestTimeoutInMillis;
+    }
+
+    public int getIdleConnectionEvictionInSeconds() {
+        return idleConnectionEvictionInSeconds;
+    }
+
+    public void setIdleConnectionEvictionInSeconds(int idleConnectionEvictionInSeconds) {
+        this.idleConnectionEvictionInSeconds = idleConnectionEvictionInSeconds;
+    }
+
+    public int getMaxWaitForPermitInMillis() {
+        return maxWaitForPermitInMillis;
+    }
+
+    public void setMaxWaitForPermitInMillis(int maxWaitForPermitInMillis) {
+        this.maxWaitForPermitInMillis = maxWaitForPermitInMillis;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return circuitBreakerEnabled;
+    }
+
+    public void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        this.circuitBreakerEnabled = circuitBreakerEnabled;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    public int getOpenStateDurationInSeconds() {
+        return openStateDurationInSeconds;
+    }
+
+    public void setOpenStateDurationInSeconds(int openStateDurationInSeconds) {
+        this.openStateDurationInSeconds = openStateDurationInSeconds;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    public Map<String, Downstream> getDownstreams() {
+        return downstreams;
+    }
+
+    public void setDownstreams(Map<String, Downstream> downstreams) {
+        this.downstreams = downstreams;
+    }
+
+    /*
+    Settings for one downstream service, matched on the scheme, host and port of its url.
+    Any setting left unset falls back to the client wide value. Concurrent calls are limited to the
+    connections per route unless maxConcurrentCalls is set.
+    */
+    public static class Downstream {
+
+        private String url;
+        private Integer maxConnectionsPerRoute;
+        private Integer connectTimeoutInMillis;
+        private Integer readTimeoutInMillis;
+        private Integer maxConcurrentCalls;
+        private Integer failureRateThreshold;
+        private Integer openStateDurationInSeconds;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Integer getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public Integer getConnectTimeoutInMillis() {
+            return connectTimeoutInMillis;
+        }
+
+        public void setConnectTimeoutInMillis(Integer connectTimeoutInMillis) {
+            this.connectTimeoutInMillis = connectTimeoutInMillis;
+        }
+
+        public Integer getReadTimeoutInMillis() {
+            return readTimeoutInMillis;
+        }
+
+        public void setReadTimeoutInMillis(Integer readTimeoutInMillis) {
+            this.readTimeoutInMillis = readTimeoutInMillis;
+        }
+
+        public Integer getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Integer getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(Integer failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Integer getOpenStateDurationInSeconds() {
+            return openStateDurationInSeconds;
+        }
+
+        public void setOpenStateDurationInSeconds(Integer openStateDurationInSeconds) {
+            this.openStateDurationInSeconds = openStateDurationInSeconds;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.MakeAnApplicationTypes;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.service.MakeAnApplicationTypesProvider;
+
+@Configuration
+@ConfigurationProperties
+public class MakeAnApplicationTypesConfiguration {
+
+    private Map<State, List<MakeAnApplicationTypes>> makeAnApplicationTypes = new EnumMap<>(State.class);
+    private Map<MakeAnApplicationTypes, List<String>> makeAnApplicationTypeRoles = new EnumMap<>(MakeAnApplicationTypes.class);
+
+    public Map<State, List<MakeAnApplicationTypes>> getMakeAnApplicationTypes() {
+        return makeAnApplicationTypes;
+    }
+
+    public Map<MakeAnApplicationTypes, List<String>> getMakeAnApplicationTypeRoles() {
+        return makeAnApplicationTypeRoles;
+    }
+
+    @Bean
+    public MakeAnApplicationTypesProvider makeAnApplicationTypesProvider(
+        UserDetails userDetails
+    ) {
+        return new MakeAnApplicationTypesProvider(
+            userDetails,
+            makeAnApplicationTypes,
+            makeAnApplicationTypeRoles
+        );
+    }
+}
@@ -1,8 +1,23 @@
 package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
@@ -10,18 +25,25 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class RestTemplateConfiguration {
 
+    public static final String CONNECTION_POOL_NAME = "restTemplate";
+
     @Bean
     public RestOperations restOperations(
-        ObjectMapper objectMapper
+        ObjectMapper objectMapper,
+        ClientHttpRequestFactory clientHttpRequestFactory,
+        DownstreamGuardInterceptor downstreamGuardInterceptor
     ) {
-        return restTemplate(objectMapper);
+        return restTemplate(objectMapper, clientHttpRequestFactory, downstreamGuardInterceptor);
     }
 
     @Bean
     public RestTemplate restTemplate(
-        ObjectMapper objectMapper
+        ObjectMapper objectMapper,
+        ClientHttpRequestFactory clientHttpRequestFactory,
+        DownstreamGuardInterceptor downstreamGuardInterceptor
     ) {
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
+        restTemplate.getInterceptors().add(downstreamGuardInterceptor);
         restTemplate.getMessageConverters().removeIf(converter -> converter instanceof MappingJackson2HttpMessageConverter);
         restTemplate.getMessageConverters().add(mappingJackson2HttpMessageConverter(objectMapper));
 
@@ -35,4 +57,113 @@ public class RestTemplateConfiguration {
         return new MappingJackson2HttpMessageConverter(objectMapper);
     }
 
+    @Bean
+    public ClientHttpRequestFactory clientHttpRequestFactory(
+        HttpClientProperties httpClientProperties,
+        MeterRegistry meterRegistry
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(httpClientProperties.getMaxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxConnectionsPerRoute());
+
+        Map<HttpHost, RequestConfig> requestConfigByHost = new HashMap<>();
+
+        httpClientProperties.getDownstreams().values().forEach(downstream -> {
+
+            HttpHost httpHost = DownstreamHttpRequestFactory.toHttpHost(URI.create(downstream.getUrl()));
+
+            if (downstream.getMaxConnectionsPerRoute() != null) {
+                connectionManager.setMaxPerRoute(new HttpRoute(httpHost), downstream.getMaxConnectionsPerRoute());
+            }
+
+            requestConfigByHost.put(
+                httpHost,
+                requestConfig(
+                    httpClientProperties,
+                    downstream.getConnectTimeoutInMillis() != null
+                        ? downstream.getConnectTimeoutInMillis()
+                        : httpClientProperties.getConnectTimeoutInMillis(),
+                    downstream.getReadTimeoutInMillis() != null
+                        ? downstream.getReadTimeoutInMillis()
+                        : httpClientProperties.getReadTimeoutInMillis()
+                )
+            );
+        });
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CONNECTION_POOL_NAME)
+            .bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                requestConfig(
+                    httpClientProperties,
+                    httpClientProperties.getConnectTimeoutInMillis(),
+                    httpClientProperties.getReadTimeoutInMillis()
+                )
+            )
+            .evictExpiredConnections()
+            .evictIdleConnections(httpClientProperties.getIdleConnectionEvictionInSeconds(), TimeUnit.SECONDS)
+            .build();
+
+        return new DownstreamHttpRequestFactory(httpClient, requestConfigByHost);
+    }
+
+    @Bean
+    public DownstreamGuardInterceptor downstreamGuardInterceptor(
+        HttpClientProperties httpClientProperties,
+        MeterRegistry meterRegistry
+    ) {
+        List<DownstreamGuard> guards = new ArrayList<>();
+
+        httpClientProperties.getDownstreams().forEach((name, downstream) -> {
+
+            DownstreamCircuitBreaker circuitBreaker = null;
+
+            if (httpClientProperties.isCircuitBreakerEnabled()) {
+                circuitBreaker = new DownstreamCircuitBreaker(
+                    downstream.getFailureRateThreshold() != null
+                        ? downstream.getFailureRateThreshold()
+                        : httpClientProperties.getFailureRateThreshold(),
+                    httpClientProperties.getSlidingWindowSize(),
+                    httpClientProperties.getMinimumNumberOfCalls(),
+                    downstream.getOpenStateDurationInSeconds() != null
+                        ? downstream.getOpenStateDurationInSeconds()
+                        : httpClientProperties.getOpenStateDurationInSeconds(),
+                    httpClientProperties.getPermittedCallsInHalfOpenState()
+                );
+            }
+
+            int maxConcurrentCalls = downstream.getMaxConcurrentCalls() != null
+                ? downstream.getMaxConcurrentCalls()
+                : downstream.getMaxConnectionsPerRoute() != null
+                    ? downstream.getMaxConnectionsPerRoute()
+                    : httpClientProperties.getMaxConnectionsPerRoute();
+
+            guards.add(
+                new DownstreamGuard(
+                    name,
+                    DownstreamHttpRequestFactory.toHttpHost(URI.create(downstream.getUrl())),
+                    maxConcurrentCalls,
+                    httpClientProperties.getMaxWaitForPermitInMillis(),
+                    circuitBreaker,
+                    meterRegistry
+                )
+            );
+        });
+
+        return new DownstreamGuardInterceptor(guards);
+    }
+
+    private RequestConfig requestConfig(
+        HttpClientProperties httpClientProperties,
+        int connectTimeoutInMillis,
+        int readTimeoutInMillis
+    ) {
+        return RequestConfig.custom()
+            .setConnectionRequestTimeout(httpClientProperties.getConnectionRequestTimeoutInMillis())
+            .setConnectTimeout(connectTimeoutInMillis)
+            .setSocketTimeout(readTimeoutInMillis)
+            .build();
+    }
 }
@@ -6,9 +6,9 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.web.context.annotation.RequestScope;
 import uk.gov.hmcts.reform.iacaseapi.domain.UserDetailsProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
-import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.IdamApi;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.security.RequestUserAccessTokenProvider;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.security.idam.IdamUserDetailsProvider;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.security.idam.IdamUserInfoCache;
 
 @Configuration
 public class UserDetailsProviderConfiguration {
@@ -17,11 +17,11 @@ public class UserDetailsProviderConfiguration {
     @Primary
     public UserDetailsProvider getRequestUserDetailsProvider(
         RequestUserAccessTokenProvider requestUserAccessTokenProvider,
-        IdamApi idamApi
+        IdamUserInfoCache idamUserInfoCache
     ) {
         return new IdamUserDetailsProvider(
             requestUserAccessTokenProvider,
-            idamApi
+            idamUserInfoCache
         );
     }
 
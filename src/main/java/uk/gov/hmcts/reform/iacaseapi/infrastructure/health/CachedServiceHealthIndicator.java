@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+public class CachedServiceHealthIndicator implements HealthIndicator {
+
+    private final String name;
+    private final ServiceHealthProbes serviceHealthProbes;
+
+    public CachedServiceHealthIndicator(String name, ServiceHealthProbes serviceHealthProbes) {
+        this.name = name;
+        this.serviceHealthProbes = serviceHealthProbes;
+    }
+
+    @Override
+    public Health health() {
+        return serviceHealthProbes.health(name);
+    }
+}
@@ -2,37 +2,64 @@ package uk.gov.hmcts.reform.iacaseapi.infrastructure.health;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.health.CompositeHealthContributor;
 import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.DownstreamGuardInterceptor;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.HealthCheckConfiguration;
 
 @Slf4j
 @Component
 public class DownStreamHealthIndicator implements CompositeHealthContributor {
 
+    public static final String CIRCUIT_BREAKERS = "circuitBreakers";
+
     private final RestTemplate restTemplate;
 
     private final HealthCheckConfiguration healthCheckConfiguration;
 
     private Map<String, HealthContributor> contributors = new HashMap<>();
 
+    @Autowired
     public DownStreamHealthIndicator(
+        HealthCheckConfiguration healthCheckConfiguration,
+        DownstreamGuardInterceptor downstreamGuardInterceptor,
+        @Qualifier("healthProbeExecutor") Executor healthProbeExecutor
+    ) {
+        this(
+            healthProbeRestTemplate(healthCheckConfiguration.getProbeTimeoutInMillis()),
+            healthCheckConfiguration,
+            downstreamGuardInterceptor,
+            healthProbeExecutor
+        );
+    }
+
+    DownStreamHealthIndicator(
         RestTemplate restTemplate,
-        HealthCheckConfiguration healthCheckConfiguration
+        HealthCheckConfiguration healthCheckConfiguration,
+        DownstreamGuardInterceptor downstreamGuardInterceptor,
+        Executor healthProbeExecutor
     ) {
         this.restTemplate = restTemplate;
         this.healthCheckConfiguration = healthCheckConfiguration;
 
+        Map<String, ServiceHealthIndicator> serviceHealthIndicators = new LinkedHashMap<>();
+
         try {
 
             healthCheckConfiguration.getServices().entrySet().stream()
                 .forEach(s -> {
-                    contributors
+                    serviceHealthIndicators
                         .put(s.getKey(), new ServiceHealthIndicator(
                             s.getValue().get("uri"),
                             s.getValue().get("response"),
@@ -43,6 +70,41 @@ public class DownStreamHealthIndicator implements CompositeHealthContributor {
             log.error("HealthCheckConfiguration cannot be null or empty");
             throw new NullPointerException("HealthCheckConfiguration cannot be null or empty");
         }
+
+        ServiceHealthProbes serviceHealthProbes = new ServiceHealthProbes(
+            serviceHealthIndicators,
+            healthProbeExecutor,
+            healthCheckConfiguration.getCacheTimeToLiveInSeconds(),
+            healthCheckConfiguration.getProbeTimeoutInMillis()
+        );
+
+        serviceHealthIndicators.keySet()
+            .forEach(name -> contributors.put(name, new CachedServiceHealthIndicator(name, serviceHealthProbes)));
+
+        Map<String, HealthIndicator> circuitBreakers = new LinkedHashMap<>();
+        downstreamGuardInterceptor.getGuards()
+            .forEach(guard -> circuitBreakers.put(guard.getName(), new DownstreamGuardHealthIndicator(guard)));
+
+        if (!circuitBreakers.isEmpty()) {
+            contributors.put(CIRCUIT_BREAKERS, CompositeHealthContributor.fromMap(circuitBreakers));
+        }
+    }
+
+    /*
+    Probes get their own client, timing out no later than the probe itself, so that a stalled downstream frees
+    the probe thread rather than holding it after the probe has been reported DOWN. It also keeps probes out of
+    the circuit breakers and connection pool of the application's own calls.
+    */
+    private static RestTemplate healthProbeRestTemplate(long probeTimeoutInMillis) {
+
+        int timeoutInMillis = Math.toIntExact(probeTimeoutInMillis);
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutInMillis);
+        requestFactory.setConnectionRequestTimeout(timeoutInMillis);
+        requestFactory.setReadTimeout(timeoutInMillis);
+
+        return new RestTemplate(requestFactory);
     }
 
     @Override
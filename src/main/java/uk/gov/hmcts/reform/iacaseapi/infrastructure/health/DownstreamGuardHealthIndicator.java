@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.DownstreamCircuitBreaker;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.DownstreamGuard;
+
+public class DownstreamGuardHealthIndicator implements HealthIndicator {
+
+    private final DownstreamGuard downstreamGuard;
+
+    public DownstreamGuardHealthIndicator(DownstreamGuard downstreamGuard) {
+        this.downstreamGuard = downstreamGuard;
+    }
+
+    @Override
+    public Health health() {
+
+        DownstreamCircuitBreaker circuitBreaker = downstreamGuard.getCircuitBreaker();
+
+        Health.Builder builder = circuitBreaker != null && circuitBreaker.getState() == DownstreamCircuitBreaker.State.OPEN
+            ? Health.down()
+            : Health.up();
+
+        builder
+            .withDetail("activeCalls", downstreamGuard.getActiveCalls())
+            .withDetail("maxConcurrentCalls", downstreamGuard.getMaxConcurrentCalls());
+
+        if (circuitBreaker != null) {
+            builder
+                .withDetail("state", circuitBreaker.getState())
+                .withDetail("failureRate", circuitBreaker.getFailureRate());
+        }
+
+        return builder.build();
+    }
+}
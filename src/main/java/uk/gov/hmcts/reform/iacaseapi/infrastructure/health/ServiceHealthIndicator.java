@@ -32,7 +32,7 @@ public class ServiceHealthIndicator implements HealthIndicator {
 
             String responseBody = Optional
                 .ofNullable(response.getBody())
-                .map(body -> body.replaceAll("\\s", ""))
+                .map(ServiceHealthIndicator::withoutWhitespace)
                 .orElse("");
 
             if (response.getStatusCode() == HttpStatus.OK
@@ -57,4 +57,18 @@ public class ServiceHealthIndicator implements HealthIndicator {
                 .build();
         }
     }
+
+    private static String withoutWhitespace(String body) {
+
+        StringBuilder stripped = new StringBuilder(body.length());
+
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                stripped.append(c);
+            }
+        }
+
+        return stripped.toString();
+    }
 }
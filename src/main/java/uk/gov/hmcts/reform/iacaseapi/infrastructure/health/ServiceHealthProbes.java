@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.health;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/*
+Probes all downstream services together and keeps the results for a while, so that the health endpoint
+answers from memory. Results older than the time to live are handed out as they are while one refresh runs
+in the background; only the very first request waits for the probes. Each probe reports DOWN if it does not
+answer within the probe timeout, or if the executor has no room for it, so probes never run on the caller.
+*/
+@Slf4j
+public class ServiceHealthProbes {
+
+    private final Map<String, HealthIndicator> probes;
+    private final Executor executor;
+    private final long timeToLiveInNanos;
+    private final long probeTimeoutInMillis;
+    private final LongSupplier nanoTime;
+
+    private final AtomicReference<CompletableFuture<Void>> refreshInFlight = new AtomicReference<>();
+    private volatile Map<String, Health> results;
+    private volatile long probedAt;
+
+    public ServiceHealthProbes(
+        Map<String, ? extends HealthIndicator> probes,
+        Executor executor,
+        long timeToLiveInSeconds,
+        long probeTimeoutInMillis
+    ) {
+        this(probes, executor, timeToLiveInSeconds, probeTimeoutInMillis, System::nanoTime);
+    }
+
+    ServiceHealthProbes(
+        Map<String, ? extends HealthIndicator> probes,
+        Executor executor,
+        long timeToLiveInSeconds,
+        long probeTimeoutInMillis,
+        LongSupplier nanoTime
+    ) {
+        requireNonNull(probes, "probes must not be null");
+        requireNonNull(executor, "executor must not be null");
+
+        this.probes = new LinkedHashMap<>(probes);
+        this.executor = executor;
+        this.timeToLiveInNanos = TimeUnit.SECONDS.toNanos(timeToLiveInSeconds);
+        this.probeTimeoutInMillis = probeTimeoutInMillis;
+        this.nanoTime = nanoTime;
+    }
+
+    public Health health(String name) {
+
+        Map<String, Health> current = results;
+
+        if (current == null) {
+            refresh().join();
+            current = results;
+        } else if (nanoTime.getAsLong() - probedAt >= timeToLiveInNanos) {
+            refresh();
+        }
+
+        return current.getOrDefault(name, Health.unknown().build());
+    }
+
+    private CompletableFuture<Void> refresh() {
+
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        CompletableFuture<Void> alreadyInFlight = refreshInFlight.compareAndExchange(null, refresh);
+
+        if (alreadyInFlight != null) {
+            return alreadyInFlight;
+        }
+
+        Map<String, CompletableFuture<Health>> probesInFlight = new HashMap<>();
+
+        try {
+            probes.forEach((name, probe) -> probesInFlight.put(name, probe(name, probe)));
+        } catch (RuntimeException e) {
+            refreshInFlight.set(null);
+            refresh.completeExceptionally(e);
+            throw e;
+        }
+
+        CompletableFuture
+            .allOf(probesInFlight.values().toArray(new CompletableFuture[0]))
+            .whenComplete((ignored, e) -> {
+
+                Map<String, Health> refreshed = new HashMap<>();
+                probesInFlight.forEach((name, probe) -> refreshed.put(name, probe.join()));
+
+                results = refreshed;
+                probedAt = nanoTime.getAsLong();
+                refreshInFlight.set(null);
+                refresh.complete(null);
+            });
+
+        return refresh;
+    }
+
+    private CompletableFuture<Health> probe(String name, HealthIndicator probe) {
+
+        CompletableFuture<Health> health;
+
+        try {
+            health = CompletableFuture.supplyAsync(probe::health, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Health probe of {} could not be queued", name);
+            return CompletableFuture.completedFuture(
+                Health.down().withDetail("error", "Probe could not be queued").build()
+            );
+        }
+
+        return health
+            .completeOnTimeout(
+                Health.down().withDetail("error", "No answer within " + probeTimeoutInMillis + "ms").build(),
+                probeTimeoutInMillis,
+                TimeUnit.MILLISECONDS
+            )
+            .exceptionally(e -> {
+                log.error("Health probe of {} failed", name, e);
+                return Health.down().withException(e).build();
+            });
+    }
+}
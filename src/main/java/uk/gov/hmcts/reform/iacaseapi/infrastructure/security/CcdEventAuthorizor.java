@@ -1,10 +1,12 @@
 package uk.gov.hmcts.reform.iacaseapi.infrastructure.security;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
@@ -12,34 +14,57 @@ import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
 @Slf4j
 public class CcdEventAuthorizor {
 
-    private final Map<String, List<Event>> roleEventAccess;
+    private final Map<Event, Set<String>> requiredRolesByEvent;
     private final AuthorizedRolesProvider authorizedRolesProvider;
 
     public CcdEventAuthorizor(Map<String, List<Event>> roleEventAccess, AuthorizedRolesProvider authorizedRolesProvider) {
-        this.roleEventAccess = roleEventAccess;
+        this.requiredRolesByEvent = indexRequiredRolesByEvent(roleEventAccess);
         this.authorizedRolesProvider = authorizedRolesProvider;
+
+        Set<Event> inaccessibleEvents = getInaccessibleEvents();
+        if (!inaccessibleEvents.isEmpty()) {
+            log.warn("No role can access {} events: {}", inaccessibleEvents.size(), inaccessibleEvents);
+        }
     }
 
     public void throwIfNotAuthorized(Event event) {
 
-        List<String> requiredRoles = getRequiredRolesForEvent(event);
+        Set<String> requiredRoles = requiredRolesByEvent.getOrDefault(event, Collections.emptySet());
+
+        if (requiredRoles.isEmpty()) {
+            throw new AccessDeniedException("Event '" + event.toString() + "' not allowed");
+        }
+
         Set<String> userRoles = authorizedRolesProvider.getRoles();
 
-        if (requiredRoles.isEmpty()
-            || userRoles.isEmpty()
+        if (userRoles.isEmpty()
             || Collections.disjoint(requiredRoles, userRoles)) {
 
             throw new AccessDeniedException("Event '" + event.toString() + "' not allowed");
         }
     }
 
-    private List<String> getRequiredRolesForEvent(Event event) {
+    public Set<Event> getInaccessibleEvents() {
+
+        Set<Event> inaccessibleEvents = EnumSet.allOf(Event.class);
+        inaccessibleEvents.remove(Event.UNKNOWN);
+        inaccessibleEvents.removeAll(requiredRolesByEvent.keySet());
+
+        return Collections.unmodifiableSet(inaccessibleEvents);
+    }
+
+    private static Map<Event, Set<String>> indexRequiredRolesByEvent(Map<String, List<Event>> roleEventAccess) {
+
+        Map<Event, Set<String>> requiredRolesByEvent = new EnumMap<>(Event.class);
+
+        roleEventAccess.forEach((role, events) ->
+            events.forEach(event ->
+                requiredRolesByEvent.computeIfAbsent(event, e -> new HashSet<>()).add(role)
+            )
+        );
+
+        requiredRolesByEvent.replaceAll((event, roles) -> Collections.unmodifiableSet(roles));
 
-        return roleEventAccess
-            .entrySet()
-            .stream()
-            .filter(entry -> entry.getValue().contains(event))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        return requiredRolesByEvent;
     }
 }
@@ -12,7 +12,6 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.IdamApi;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.model.idam.UserInfo;
 
 @Component
@@ -22,10 +21,10 @@ public class IdamAuthoritiesConverter implements Converter<Jwt, Collection<Grant
 
     static final String TOKEN_NAME = "tokenName";
 
-    private final IdamApi idamApi;
+    private final IdamUserInfoCache idamUserInfoCache;
 
-    public IdamAuthoritiesConverter(IdamApi idamApi) {
-        this.idamApi = idamApi;
+    public IdamAuthoritiesConverter(IdamUserInfoCache idamUserInfoCache) {
+        this.idamUserInfoCache = idamUserInfoCache;
     }
 
     @Override
@@ -42,7 +41,7 @@ public class IdamAuthoritiesConverter implements Converter<Jwt, Collection<Grant
 
         try {
 
-            UserInfo userInfo = idamApi.userInfo("Bearer " + authorization);
+            UserInfo userInfo = idamUserInfoCache.getUserInfo("Bearer " + authorization);
 
             return userInfo
                 .getRoles()
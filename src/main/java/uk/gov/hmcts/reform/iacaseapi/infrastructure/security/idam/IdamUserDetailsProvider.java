@@ -2,22 +2,21 @@ package uk.gov.hmcts.reform.iacaseapi.infrastructure.security.idam;
 
 import feign.FeignException;
 import uk.gov.hmcts.reform.iacaseapi.domain.UserDetailsProvider;
-import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.IdamApi;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.model.idam.UserInfo;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.security.AccessTokenProvider;
 
 public class IdamUserDetailsProvider implements UserDetailsProvider {
 
     private final AccessTokenProvider accessTokenProvider;
-    private final IdamApi idamApi;
+    private final IdamUserInfoCache idamUserInfoCache;
 
     public IdamUserDetailsProvider(
         AccessTokenProvider accessTokenProvider,
-        IdamApi idamApi
+        IdamUserInfoCache idamUserInfoCache
     ) {
 
         this.accessTokenProvider = accessTokenProvider;
-        this.idamApi = idamApi;
+        this.idamUserInfoCache = idamUserInfoCache;
     }
 
     public IdamUserDetails getUserDetails() {
@@ -27,7 +26,7 @@ public class IdamUserDetailsProvider implements UserDetailsProvider {
         UserInfo response;
 
         try {
-            response = idamApi.userInfo(accessToken);
+            response = idamUserInfoCache.getUserInfo(accessToken);
 
         } catch (FeignException ex) {
 
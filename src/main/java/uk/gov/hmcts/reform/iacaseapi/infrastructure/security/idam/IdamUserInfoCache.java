@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.security.idam;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.IdamApi;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.model.idam.UserInfo;
+
+/*
+IDAM userInfo responses are shared between the authorities converter and the request user details provider for a
+short time, as every callback of an event presents the same access token. Entries are keyed by a SHA-256 hash of the
+token, with or without its Bearer prefix, so raw tokens are not held in memory, and failed lookups are never cached.
+*/
+@Component
+public class IdamUserInfoCache {
+
+    public static final String CACHE_NAME = "idamUserInfo";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final IdamApi idamApi;
+    private final Cache<String, UserInfo> userInfoByTokenHash;
+
+    public IdamUserInfoCache(
+        IdamApi idamApi,
+        @Value("${idam.userInfo.cache.ttlInSeconds:60}") long ttlInSeconds,
+        @Value("${idam.userInfo.cache.maximumSize:10000}") long maximumSize,
+        MeterRegistry meterRegistry
+    ) {
+        requireNonNull(idamApi, "idamApi must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.idamApi = idamApi;
+        this.userInfoByTokenHash = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userInfoByTokenHash, CACHE_NAME);
+    }
+
+    public UserInfo getUserInfo(String accessToken) {
+
+        requireNonNull(accessToken, "accessToken must not be null");
+
+        String token = accessToken.startsWith(BEARER_PREFIX) ? accessToken.substring(BEARER_PREFIX.length()) : accessToken;
+
+        return userInfoByTokenHash.get(
+            Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString(),
+            tokenHash -> idamApi.userInfo(accessToken)
+        );
+    }
+}
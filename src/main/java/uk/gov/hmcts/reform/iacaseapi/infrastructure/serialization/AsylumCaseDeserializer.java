@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+
+/*
+Streams case data straight into an AsylumCase. Collection and flag fields, which make up most of a large case,
+are kept as buffered tokens and only bound when a handler reads them; everything else is read as before.
+*/
+public class AsylumCaseDeserializer extends StdDeserializer<AsylumCase> {
+
+    private static final long serialVersionUID = 1L;
+
+    public AsylumCaseDeserializer() {
+        super(AsylumCase.class);
+    }
+
+    @Override
+    public AsylumCase deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+        JsonToken token = p.currentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (AsylumCase) ctxt.handleUnexpectedToken(AsylumCase.class, p);
+        }
+
+        AsylumCase asylumCase = new AsylumCase();
+
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+
+            String fieldName = p.currentName();
+            JsonToken valueToken = p.nextToken();
+
+            if (valueToken == JsonToken.VALUE_NULL) {
+                asylumCase.put(fieldName, null);
+            } else if (valueToken.isStructStart() && AsylumCaseFieldConverter.isBoundLazily(fieldName)) {
+                asylumCase.put(fieldName, new LazyJsonValue(ctxt.bufferAsCopyOfValue(p)));
+            } else {
+                asylumCase.put(fieldName, ctxt.readValue(p, Object.class));
+            }
+        }
+
+        return asylumCase;
+    }
+}
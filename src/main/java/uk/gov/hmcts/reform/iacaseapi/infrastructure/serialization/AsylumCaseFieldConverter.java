@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.StrategicCaseFlag;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.IdValue;
+
+/*
+Process-wide conversion of raw case data values into their AsylumCaseFieldDefinition types.
+AsylumCase instances are created by Jackson rather than Spring, so the mapper is held statically.
+ObjectMapper is thread-safe once configured and the type table is never modified after class initialisation.
+The mapper deliberately keeps Jackson's default enum handling rather than the READ_ENUMS_USING_TO_STRING set up in
+JacksonConfiguration, as enums such as AppealType bind by @JsonValue but override toString for display.
+Collection and flag fields are read by AsylumCaseDeserializer as LazyJsonValue and bound here on first read.
+*/
+public final class AsylumCaseFieldConverter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    private static final Map<AsylumCaseFieldDefinition, JavaType> JAVA_TYPES = resolveJavaTypes();
+
+    private static final Set<String> LAZILY_BOUND_FIELDS = resolveLazilyBoundFields();
+
+    private AsylumCaseFieldConverter() {
+        // utility class
+    }
+
+    public static Object convert(AsylumCaseFieldDefinition fieldDefinition, Object value) {
+
+        if (value instanceof LazyJsonValue) {
+            return ((LazyJsonValue) value).bind(MAPPER, JAVA_TYPES.get(fieldDefinition));
+        }
+
+        return MAPPER.convertValue(value, JAVA_TYPES.get(fieldDefinition));
+    }
+
+    public static boolean isBoundLazily(String fieldName) {
+        return LAZILY_BOUND_FIELDS.contains(fieldName);
+    }
+
+    public static void warmUp() {
+        JAVA_TYPES.values().forEach(MAPPER::readerFor);
+    }
+
+    private static Map<AsylumCaseFieldDefinition, JavaType> resolveJavaTypes() {
+
+        Map<AsylumCaseFieldDefinition, JavaType> javaTypes = new EnumMap<>(AsylumCaseFieldDefinition.class);
+
+        for (AsylumCaseFieldDefinition fieldDefinition : AsylumCaseFieldDefinition.values()) {
+            javaTypes.put(
+                fieldDefinition,
+                MAPPER.getTypeFactory().constructType(fieldDefinition.getTypeReference())
+            );
+        }
+
+        return Collections.unmodifiableMap(javaTypes);
+    }
+
+    private static Set<String> resolveLazilyBoundFields() {
+
+        Set<String> fieldNames = new HashSet<>();
+
+        JAVA_TYPES.forEach((fieldDefinition, javaType) -> {
+            if ((javaType.isCollectionLikeType() && javaType.getContentType().hasRawClass(IdValue.class))
+                || javaType.hasRawClass(StrategicCaseFlag.class)) {
+                fieldNames.add(fieldDefinition.value());
+            }
+        });
+
+        return Collections.unmodifiableSet(fieldNames);
+    }
+}
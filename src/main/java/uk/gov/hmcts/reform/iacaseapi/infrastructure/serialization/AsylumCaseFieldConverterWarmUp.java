@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AsylumCaseFieldConverterWarmUp {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        AsylumCaseFieldConverter.warmUp();
+    }
+}
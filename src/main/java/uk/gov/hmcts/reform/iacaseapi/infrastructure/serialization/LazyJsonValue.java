@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.DeferredFieldValue;
+
+/*
+Case data value held as the buffered JSON tokens it was read from, bound to a typed value only when first read.
+The buffer is never modified once captured, so it can be replayed any number of times and from any thread.
+Serializing the value writes the original tokens back out unchanged. Equality, hashing and toString work on a
+tree read from the tokens the first time one of them is needed and kept from then on.
+*/
+public final class LazyJsonValue extends JsonSerializable.Base implements DeferredFieldValue {
+
+    private static final ObjectMapper TREE_MAPPER = new ObjectMapper();
+
+    private final TokenBuffer tokens;
+    private volatile JsonNode tree;
+
+    public LazyJsonValue(
+        TokenBuffer tokens
+    ) {
+        requireNonNull(tokens, "tokens must not be null");
+        this.tokens = tokens;
+    }
+
+    @Override
+    public Object bind(AsylumCaseFieldDefinition fieldDefinition) {
+        return AsylumCaseFieldConverter.convert(fieldDefinition, this);
+    }
+
+    public Object bind(ObjectMapper mapper, JavaType javaType) {
+
+        try (JsonParser parser = tokens.asParser(mapper)) {
+
+            return mapper.readValue(parser, javaType);
+
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not bind case data value to " + javaType, e);
+        }
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        tokens.serialize(gen);
+    }
+
+    @Override
+    public void serializeWithType(
+        JsonGenerator gen,
+        SerializerProvider serializers,
+        TypeSerializer typeSer
+    ) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+            || (other instanceof LazyJsonValue && toTree().equals(((LazyJsonValue) other).toTree()));
+    }
+
+    @Override
+    public int hashCode() {
+        return toTree().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toTree().toString();
+    }
+
+    private JsonNode toTree() {
+
+        JsonNode current = tree;
+
+        if (current != null) {
+            return current;
+        }
+
+        try (JsonParser parser = tokens.asParser(TREE_MAPPER)) {
+
+            // a race only reads the same tree twice
+            current = TREE_MAPPER.readTree(parser);
+            tree = current;
+            return current;
+
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read buffered case data value", e);
+        }
+    }
+}
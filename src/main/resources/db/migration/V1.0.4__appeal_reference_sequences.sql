@@ -0,0 +1,24 @@
+--
+-- last appeal reference sequence number handed out for each type and year,
+-- so that a new number is reserved by updating one row rather than scanning
+-- all the numbers issued so far
+--
+CREATE TABLE IF NOT EXISTS ia_case_api.appeal_reference_sequences (
+  type varchar(30) NOT NULL,
+  year INT NOT NULL,
+  last_sequence INT NOT NULL,
+  CONSTRAINT appeal_reference_sequences_pkey PRIMARY KEY (type, year)
+);
+--
+INSERT INTO ia_case_api.appeal_reference_sequences (
+  type,
+  year,
+  last_sequence
+)
+SELECT type,
+       year,
+       MAX(sequence)
+  FROM ia_case_api.appeal_reference_numbers
+ WHERE type IS NOT NULL
+ GROUP BY type, year;
+--
@@ -0,0 +1,7 @@
+--
+-- lets the lookup of the appeal reference number of a case be answered from
+-- the index alone, rather than from the unique_case_id index and the table
+--
+CREATE INDEX IF NOT EXISTS idx_appeal_reference_numbers_case_id_reference
+  ON ia_case_api.appeal_reference_numbers (case_id, type, year, sequence);
+--
@@ -24,4 +24,12 @@ class AsylumCaseFieldDefinitionTest {
                 .isEqualTo(v.value()));
     }
 
+    @Test
+    void can_be_found_by_value() {
+        Stream.of(AsylumCaseFieldDefinition.values())
+            .forEach(v -> assertThat(AsylumCaseFieldDefinition.from(v.value())).contains(v));
+
+        assertThat(AsylumCaseFieldDefinition.from("notAField")).isEmpty();
+    }
+
 }
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPELLANT_FAMILY_NAME;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPELLANT_GIVEN_NAMES;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.HEARING_CENTRE;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsylumCaseSnapshotTest {
+
+    private AsylumCase asylumCase;
+
+    @BeforeEach
+    public void setUp() {
+        asylumCase = new AsylumCase();
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "Jane");
+        asylumCase.write(APPELLANT_FAMILY_NAME, "Doe");
+    }
+
+    @Test
+    void should_see_values_as_they_were_when_taken() {
+
+        AsylumCaseSnapshot snapshot = asylumCase.snapshot();
+
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "John");
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "Jim");
+        asylumCase.remove(APPELLANT_FAMILY_NAME.value());
+        asylumCase.write(HEARING_CENTRE, HearingCentre.MANCHESTER);
+
+        assertThat(snapshot.get(APPELLANT_GIVEN_NAMES.value())).isEqualTo("Jane");
+        assertThat(snapshot.<String>read(APPELLANT_GIVEN_NAMES)).contains("Jane");
+        assertThat(snapshot.containsKey(APPELLANT_FAMILY_NAME.value())).isTrue();
+        assertThat(snapshot.containsKey(HEARING_CENTRE.value())).isFalse();
+        assertThat(snapshot.read(HEARING_CENTRE)).isEmpty();
+
+        AsylumCase copy = snapshot.toAsylumCase();
+
+        assertThat(copy).containsOnly(
+            Map.entry(APPELLANT_GIVEN_NAMES.value(), "Jane"),
+            Map.entry(APPELLANT_FAMILY_NAME.value(), "Doe")
+        );
+        assertThat(asylumCase.<String>read(APPELLANT_GIVEN_NAMES)).contains("Jim");
+    }
+
+    @Test
+    void should_report_added_modified_and_cleared_fields_with_previous_values() {
+
+        AsylumCaseSnapshot snapshot = asylumCase.snapshot();
+
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "John");
+        asylumCase.clear(APPELLANT_FAMILY_NAME);
+        asylumCase.write(HEARING_CENTRE, "manchester");
+        asylumCase.put("transient", "value");
+        asylumCase.remove("transient");
+
+        Map<String, AsylumCaseChange> changes = snapshot.getChanges();
+
+        assertThat(changes).containsOnlyKeys(
+            APPELLANT_GIVEN_NAMES.value(), APPELLANT_FAMILY_NAME.value(), HEARING_CENTRE.value());
+
+        AsylumCaseChange givenNames = changes.get(APPELLANT_GIVEN_NAMES.value());
+        assertThat(givenNames.getType()).isEqualTo(AsylumCaseChange.Type.MODIFIED);
+        assertThat(givenNames.getPreviousValue()).isEqualTo("Jane");
+        assertThat(givenNames.getValue()).isEqualTo("John");
+
+        assertThat(changes.get(APPELLANT_FAMILY_NAME.value()).getType()).isEqualTo(AsylumCaseChange.Type.CLEARED);
+        assertThat(changes.get(APPELLANT_FAMILY_NAME.value()).getPreviousValue()).isEqualTo("Doe");
+        assertThat(changes.get(HEARING_CENTRE.value()).getType()).isEqualTo(AsylumCaseChange.Type.ADDED);
+    }
+
+    @Test
+    void should_keep_earlier_snapshots_valid_when_tracking_restarts() {
+
+        AsylumCaseSnapshot first = asylumCase.snapshot();
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "John");
+
+        asylumCase.trackChanges();
+        asylumCase.clear();
+
+        assertThat(first.get(APPELLANT_GIVEN_NAMES.value())).isEqualTo("Jane");
+        assertThat(asylumCase.getChanges().get(APPELLANT_GIVEN_NAMES.value()).getPreviousValue()).isEqualTo("John");
+        assertThat(asylumCase.getChangedKeys())
+            .containsExactlyInAnyOrder(APPELLANT_GIVEN_NAMES.value(), APPELLANT_FAMILY_NAME.value());
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPEAL_GROUNDS_FOR_DISPLAY;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPELLANT_GIVEN_NAMES;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsylumCaseTest {
+
+    private AsylumCase asylumCase;
+
+    @BeforeEach
+    public void setUp() {
+        asylumCase = new AsylumCase();
+    }
+
+    @Test
+    void should_return_the_same_converted_elements_for_repeated_reads() {
+
+        asylumCase.put(APPEAL_GROUNDS_FOR_DISPLAY.value(), Arrays.asList("protectionRefugeeConvention", "protectionHumanRights"));
+
+        Optional<List<String>> first = asylumCase.read(APPEAL_GROUNDS_FOR_DISPLAY);
+        Optional<List<String>> second = asylumCase.read(APPEAL_GROUNDS_FOR_DISPLAY);
+
+        assertThat(first.get()).containsExactly("protectionRefugeeConvention", "protectionHumanRights");
+        assertThat(second.get()).isNotSameAs(first.get());
+        assertThat(second.get().get(0)).isSameAs(first.get().get(0));
+    }
+
+    @Test
+    void should_not_leak_changes_to_a_read_list_into_later_reads() {
+
+        asylumCase.put(APPEAL_GROUNDS_FOR_DISPLAY.value(), Arrays.asList("protectionRefugeeConvention", "protectionHumanRights"));
+
+        List<String> grounds = asylumCase.<List<String>>read(APPEAL_GROUNDS_FOR_DISPLAY).get();
+        grounds.remove("protectionHumanRights");
+        grounds.subList(0, grounds.size()).clear();
+
+        assertThat(asylumCase.<List<String>>read(APPEAL_GROUNDS_FOR_DISPLAY).get())
+            .containsExactly("protectionRefugeeConvention", "protectionHumanRights");
+    }
+
+    @Test
+    void should_reconvert_after_write() {
+
+        asylumCase.put(APPELLANT_GIVEN_NAMES.value(), "Jane");
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).contains("Jane");
+
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "John");
+
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).contains("John");
+    }
+
+    @Test
+    void should_reconvert_when_same_raw_value_is_put_back() {
+
+        List<String> grounds = new ArrayList<>(List.of("protectionRefugeeConvention"));
+        asylumCase.put(APPEAL_GROUNDS_FOR_DISPLAY.value(), grounds);
+        assertThat(asylumCase.read(APPEAL_GROUNDS_FOR_DISPLAY)).contains(List.of("protectionRefugeeConvention"));
+
+        grounds.add("protectionHumanRights");
+        asylumCase.put(APPEAL_GROUNDS_FOR_DISPLAY.value(), grounds);
+
+        assertThat(asylumCase.read(APPEAL_GROUNDS_FOR_DISPLAY))
+            .contains(List.of("protectionRefugeeConvention", "protectionHumanRights"));
+    }
+
+    @Test
+    void should_return_empty_after_clear() {
+
+        asylumCase.write(APPELLANT_GIVEN_NAMES, "Jane");
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).contains("Jane");
+
+        asylumCase.clear(APPELLANT_GIVEN_NAMES);
+
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).isEmpty();
+    }
+
+    @Test
+    void should_reconvert_after_raw_map_updates() {
+
+        asylumCase.put(APPELLANT_GIVEN_NAMES.value(), "Jane");
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).contains("Jane");
+
+        asylumCase.put(APPELLANT_GIVEN_NAMES.value(), "John");
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).contains("John");
+
+        asylumCase.remove(APPELLANT_GIVEN_NAMES.value());
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).isEmpty();
+
+        AsylumCase other = new AsylumCase();
+        other.put(APPELLANT_GIVEN_NAMES.value(), "Jim");
+        asylumCase.putAll(other);
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).contains("Jim");
+
+        asylumCase.clear();
+        assertThat(asylumCase.read(APPELLANT_GIVEN_NAMES, String.class)).isEmpty();
+    }
+
+    @Test
+    void should_track_changed_keys_once_enabled() {
+
+        asylumCase.put(APPELLANT_GIVEN_NAMES.value(), "Jane");
+        asylumCase.put("untouched", "value");
+        assertThat(asylumCase.isTrackingChanges()).isFalse();
+        assertThat(asylumCase.getChangedKeys()).isEmpty();
+
+        asylumCase.trackChanges();
+        asylumCase.write(APPEAL_GROUNDS_FOR_DISPLAY, Arrays.asList("protectionRefugeeConvention"));
+        asylumCase.remove(APPELLANT_GIVEN_NAMES.value());
+        asylumCase.putAll(Map.of("other", "value"));
+
+        assertThat(asylumCase.getChangedKeys())
+            .containsExactlyInAnyOrder(APPEAL_GROUNDS_FOR_DISPLAY.value(), APPELLANT_GIVEN_NAMES.value(), "other");
+        assertThat(asylumCase.getChangedKeys()).doesNotContain("untouched");
+    }
+}
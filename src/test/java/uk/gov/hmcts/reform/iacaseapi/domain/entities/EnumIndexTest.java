@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class EnumIndexTest {
+
+    @Test
+    void finds_every_constant_by_its_key() {
+
+        EnumIndex<String, HearingCentre> index = EnumIndex.of(HearingCentre.values(), HearingCentre::getValue);
+
+        for (HearingCentre hearingCentre : HearingCentre.values()) {
+            assertEquals(Optional.of(hearingCentre), index.find(hearingCentre.getValue()));
+        }
+    }
+
+    @Test
+    void finds_nothing_for_unknown_or_null_key() {
+
+        EnumIndex<String, AppealType> index = EnumIndex.of(AppealType.values(), AppealType::getValue);
+
+        assertTrue(index.find("unknown").isEmpty());
+        assertTrue(index.find(null).isEmpty());
+    }
+
+    @Test
+    void finds_first_declared_constant_when_keys_clash() {
+
+        EnumIndex<String, AppealType> index = EnumIndex.of(AppealType.values(), appealType -> "same");
+
+        assertEquals(Optional.of(AppealType.values()[0]), index.find("same"));
+    }
+
+    @Test
+    void should_not_allow_null_arguments() {
+
+        assertThrows(NullPointerException.class, () -> EnumIndex.of(null, AppealType::getValue));
+        assertThrows(NullPointerException.class, () -> EnumIndex.<String, AppealType>of(AppealType.values(), null));
+    }
+}
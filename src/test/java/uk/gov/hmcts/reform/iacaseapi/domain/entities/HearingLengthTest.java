@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +29,14 @@ class HearingLengthTest {
         assertEquals(HearingLength.LENGTH_6_HOURS, HearingLength.from(360).get());
     }
 
+    @Test
+    void is_not_created_from_unknown_length() {
+        assertTrue(HearingLength.from(45).isEmpty());
+        assertTrue(HearingLength.from(0).isEmpty());
+        assertTrue(HearingLength.from(-30).isEmpty());
+        assertTrue(HearingLength.from(390).isEmpty());
+    }
+
     @Test
     void if_this_test_fails_it_is_because_it_needs_updating_with_your_changes() {
         assertEquals(12, HearingLength.values().length);
@@ -0,0 +1,145 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
+
+/*
+ * The dispatcher only offers a callback to handlers whose declared events and
+ * stages match it, so a handler must never accept a callback outside of them.
+ */
+class PreSubmitCallbackHandlerRoutesTest {
+
+    private static final String HANDLERS_PACKAGE = "uk.gov.hmcts.reform.iacaseapi.domain.handlers";
+
+    @Test
+    void handlers_do_not_handle_callbacks_outside_of_their_declared_routes() throws Exception {
+
+        List<PreSubmitCallbackHandler<AsylumCase>> routedHandlers = new ArrayList<>();
+
+        for (PreSubmitCallbackHandler<AsylumCase> handler : instantiateHandlers()) {
+            if (!handler.getHandledEvents().isEmpty() || !handler.getHandledStages().isEmpty()) {
+                routedHandlers.add(handler);
+            }
+        }
+
+        assertThat(routedHandlers).isNotEmpty();
+
+        for (PreSubmitCallbackHandler<AsylumCase> handler : routedHandlers) {
+
+            Set<Event> handledEvents = handler.getHandledEvents();
+            Set<PreSubmitCallbackStage> handledStages = handler.getHandledStages();
+
+            for (Event event : Event.values()) {
+
+                Callback<AsylumCase> callback = callbackFor(event);
+
+                for (PreSubmitCallbackStage callbackStage : PreSubmitCallbackStage.values()) {
+
+                    boolean routed =
+                        (handledEvents.isEmpty() || handledEvents.contains(event))
+                        && (handledStages.isEmpty() || handledStages.contains(callbackStage));
+
+                    if (!routed) {
+                        assertThat(handler.canHandle(callbackStage, callback))
+                            .as("%s handles %s %s outside of its declared routes",
+                                handler.getClass().getSimpleName(), event, callbackStage)
+                            .isFalse();
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Callback<AsylumCase> callbackFor(Event event) {
+
+        Callback<AsylumCase> callback = mock(Callback.class);
+        CaseDetails<AsylumCase> caseDetails = mock(CaseDetails.class);
+
+        when(callback.getEvent()).thenReturn(event);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(new AsylumCase());
+        when(caseDetails.getState()).thenReturn(State.APPEAL_STARTED);
+
+        return callback;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<PreSubmitCallbackHandler<AsylumCase>> instantiateHandlers() throws Exception {
+
+        ClassPathScanningCandidateComponentProvider scanner =
+            new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(PreSubmitCallbackHandler.class));
+
+        List<PreSubmitCallbackHandler<AsylumCase>> handlers = new ArrayList<>();
+
+        for (BeanDefinition candidate : scanner.findCandidateComponents(HANDLERS_PACKAGE)) {
+
+            Class<?> handlerClass = Class.forName(candidate.getBeanClassName());
+
+            Constructor<?> constructor =
+                Arrays.stream(handlerClass.getConstructors())
+                    .max(Comparator.comparingInt(Constructor::getParameterCount))
+                    .orElseThrow(() -> new IllegalStateException(handlerClass + " has no public constructor"));
+
+            Object[] arguments =
+                Arrays.stream(constructor.getParameterTypes())
+                    .map(PreSubmitCallbackHandlerRoutesTest::argumentOf)
+                    .toArray();
+
+            handlers.add((PreSubmitCallbackHandler<AsylumCase>) constructor.newInstance(arguments));
+        }
+
+        return handlers;
+    }
+
+    private static Object argumentOf(Class<?> type) {
+
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == String.class) {
+            return "";
+        }
+        if (type == List.class) {
+            return Collections.emptyList();
+        }
+        if (type == Set.class) {
+            return Collections.emptySet();
+        }
+        if (type == Map.class) {
+            return Collections.emptyMap();
+        }
+        if (type == Optional.class) {
+            return Optional.empty();
+        }
+        return mock(type);
+    }
+}
@@ -3,12 +3,16 @@ package uk.gov.hmcts.reform.iacaseapi.domain.handlers.postsubmit.editdocs;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +24,7 @@ import org.mockito.quality.Strictness;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.Document;
 
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
 @ExtendWith(MockitoExtension.class)
@@ -65,35 +70,27 @@ class EditDocsAuditLogServiceTest {
     }
 
     private void mockEditDocsAuditService() {
-        when(editDocsAuditService.getUpdatedAndDeletedDocIdsForGivenField(any(AsylumCase.class),
-            any(AsylumCase.class), any(AsylumCaseFieldDefinition.class)))
-            .thenReturn(Collections.singletonList("id1"))
-            .thenReturn(Collections.singletonList("id2"))
-            .thenReturn(Collections.singletonList("id3"))
-            .thenReturn(Collections.singletonList("id4"))
-            .thenReturn(Collections.singletonList("id5"))
-            .thenReturn(Collections.singletonList("id6"))
-            .thenReturn(Collections.singletonList("id7"))
-            .thenReturn(Collections.singletonList("id8"))
-            .thenReturn(Collections.singletonList("id9"))
-            .thenReturn(Collections.singletonList("id10"))
-            .thenReturn(Collections.singletonList("id11"))
-            .thenThrow(new RuntimeException("no more calls expected"));
+        List<Document> documents = new ArrayList<>();
+        for (int i = 1; i <= 11; i++) {
+            documents.add(new Document(
+                "http://dm-store/documents/id" + i,
+                "http://dm-store/documents/id" + i + "/binary",
+                "docName" + i));
+        }
 
-        when(editDocsAuditService.getUpdatedAndDeletedDocNamesForGivenField(any(AsylumCase.class),
-            any(AsylumCase.class), any(AsylumCaseFieldDefinition.class)))
-            .thenReturn(Collections.singletonList("docName1"))
-            .thenReturn(Collections.singletonList("docName2"))
-            .thenReturn(Collections.singletonList("docName3"))
-            .thenReturn(Collections.singletonList("docName4"))
-            .thenReturn(Collections.singletonList("docName5"))
-            .thenReturn(Collections.singletonList("docName6"))
-            .thenReturn(Collections.singletonList("docName7"))
-            .thenReturn(Collections.singletonList("docName8"))
-            .thenReturn(Collections.singletonList("docName9"))
-            .thenReturn(Collections.singletonList("docName10"))
-            .thenReturn(Collections.singletonList("docName11"))
-            .thenThrow(new RuntimeException("no more calls expected"));
+        when(editDocsAuditService.getUpdatedAndDeletedDocs(any(AsylumCase.class),
+            any(AsylumCase.class), anyList()))
+            .thenReturn(documents);
     }
 
+    @Test
+    void shouldNotDiffDocumentsWithoutCaseBefore() {
+        mockUserDetailsProvider();
+
+        AuditDetails actualAuditDetails = editDocsAuditLogService.buildAuditDetails(1L, asylumCase, null);
+
+        assertEquals(Collections.emptyList(), actualAuditDetails.getDocumentIds());
+        assertEquals(Collections.emptyList(), actualAuditDetails.getDocumentNames());
+        verifyNoInteractions(editDocsAuditService);
+    }
 }
@@ -9,6 +9,8 @@ import static uk.gov.hmcts.reform.iacaseapi.domain.entities.DocumentTag.ADDITION
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -120,6 +122,55 @@ class EditDocsAuditServiceTest {
         assertEquals(ids, expectedIds);
     }
 
+    @Test
+    void getUpdatedAndDeletedDocsAcrossFieldsWithoutModifyingCaseBefore() {
+        EditDocsAuditService service = new EditDocsAuditService();
+
+        IdValue<HasDocument> kept = buildIdValue("1", "1111-2222", "desc1", false, "kept").get(0);
+        IdValue<HasDocument> deleted = buildIdValue("2", "2222-3333", "desc2", false, "deleted").get(0);
+        IdValue<HasDocument> updatedBefore = buildIdValue("1", "3333-4444", "desc3", false, "updated").get(0);
+        IdValue<HasDocument> updatedAfter = buildIdValue("1", "3333-4444", "changed", false, "updated").get(0);
+
+        AsylumCase asylum = new AsylumCase();
+        asylum.write(TRIBUNAL_DOCUMENTS, Collections.singletonList(kept));
+        asylum.write(ADDITIONAL_EVIDENCE_DOCUMENTS, Collections.singletonList(updatedAfter));
+
+        AsylumCase asylumCaseBefore = new AsylumCase();
+        asylumCaseBefore.write(TRIBUNAL_DOCUMENTS, Arrays.asList(kept, deleted));
+        asylumCaseBefore.write(ADDITIONAL_EVIDENCE_DOCUMENTS, Collections.singletonList(updatedBefore));
+
+        List<Document> docs = service.getUpdatedAndDeletedDocs(
+            asylum, asylumCaseBefore, Arrays.asList(TRIBUNAL_DOCUMENTS, ADDITIONAL_EVIDENCE_DOCUMENTS));
+
+        assertEquals(Arrays.asList("deleted", "updated"),
+            docs.stream().map(Document::getDocumentFilename).collect(Collectors.toList()));
+        assertEquals(2, asylumCaseBefore.<List<IdValue<HasDocument>>>read(TRIBUNAL_DOCUMENTS).get().size());
+    }
+
+    @Test
+    void getUpdatedAndDeletedDocsSkipsFieldsWithTheSameRawValue() {
+        EditDocsAuditService service = new EditDocsAuditService();
+
+        List<IdValue<HasDocument>> documents =
+            Collections.singletonList(buildIdValue("1", "1111-2222", "desc1", false, "unchanged").get(0));
+
+        AsylumCase asylum = new AsylumCase();
+        asylum.put(TRIBUNAL_DOCUMENTS.value(), documents);
+
+        AsylumCase asylumCaseBefore = new AsylumCase();
+        asylumCaseBefore.put(TRIBUNAL_DOCUMENTS.value(), documents);
+
+        assertEquals(Collections.emptyList(),
+            service.getUpdatedAndDeletedDocs(asylum, asylumCaseBefore, Collections.singletonList(TRIBUNAL_DOCUMENTS)));
+    }
+
+    @Test
+    void getIdFromDocUrlReturnsLastPathSegment() {
+        assertEquals("1111-2222", EditDocsAuditService.getIdFromDocUrl("http://dm-store:89/documents/1111-2222"));
+        assertEquals("1111-2222", EditDocsAuditService.getIdFromDocUrl("1111-2222"));
+        assertEquals("http://dm-store:89/", EditDocsAuditService.getIdFromDocUrl("http://dm-store:89/"));
+    }
+
     private static Object[] generateNewFileAddedScenarios() {
         idValue1 = buildIdValue("1", "1111-2222", "desc1", false, "someDocName").get(0);
         idValue2 = buildIdValue("2", "2222-3333", "desc2", false, "someDocName").get(0);
@@ -4,6 +4,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -91,7 +92,11 @@ class ShareACasePermissionsHandlerTest {
         when(asylumCase.read(AsylumCaseFieldDefinition.ORG_LIST_OF_USERS, DynamicList.class))
             .thenReturn(Optional.of(dynamicList));
 
-        when(professionalUsersRetriever.retrieve()).thenReturn(response);
+        when(professionalUsersRetriever.findOrganisationUser(anyString())).thenAnswer(invocation ->
+            response.getUsers().stream()
+                .filter(user -> user.getUserIdentifier().equalsIgnoreCase(invocation.getArgument(0)))
+                .findFirst()
+        );
 
         shareACasePermissionsHandler = new ShareACasePermissionsHandler(ccdUpdater, professionalUsersRetriever);
 
@@ -246,13 +246,10 @@ class AllocateTheCaseToCaseWorkerMidEventHandlerTest {
 
     private void mockCaseWorkerService(CaseWorkerName caseWorkerName, List<Assignment> assignments) {
 
-        when(caseWorkerService.getRoleAssignmentsPerLocationAndClassification(
+        when(caseWorkerService.getCaseWorkerNamesForLocationAndClassification(
             "some location id",
             "PUBLIC")
-        ).thenReturn(assignments);
-
-        when(caseWorkerService.getCaseWorkerNameForActorIds(newArrayList(someActorId)))
-            .thenReturn(newArrayList(caseWorkerName));
+        ).thenReturn(assignments.isEmpty() ? Collections.emptyList() : newArrayList(caseWorkerName));
     }
 
     private void mockCaseDetails() {
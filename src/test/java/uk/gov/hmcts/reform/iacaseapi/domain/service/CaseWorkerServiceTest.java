@@ -3,6 +3,8 @@ package uk.gov.hmcts.reform.iacaseapi.domain.service;
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Classification.*;
@@ -10,15 +12,17 @@ import static uk.gov.hmcts.reform.iacaseapi.domain.entities.roleassignment.Class
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
@@ -39,7 +43,7 @@ class CaseWorkerServiceTest {
     private AuthTokenGenerator authTokenGenerator;
     @Mock
     private IdamService idamService;
-    @InjectMocks
+
     private CaseWorkerService caseWorkerService;
 
     @Captor
@@ -48,6 +52,22 @@ class CaseWorkerServiceTest {
     private static final String ACTOR_ID = "some actor id";
     private static final String AUTHORISATION = "some auth code";
 
+    @BeforeEach
+    void setUp() {
+        caseWorkerService = new CaseWorkerService(
+            roleAssignmentService,
+            refDataCaseWorkerApi,
+            idamService,
+            authTokenGenerator,
+            2,
+            3600,
+            100,
+            60,
+            100,
+            Runnable::run
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("scenarioProvider")
     void getRoleAssignmentsPerLocationAndClassification(Scenario scenario) {
@@ -169,4 +189,51 @@ class CaseWorkerServiceTest {
         CaseWorkerProfile caseWorkerProfile;
         CaseWorkerName expectedCaseWorkerName;
     }
+
+    @Test
+    void should_fetch_missing_names_in_chunks_and_reuse_cached_names() {
+
+        when(idamService.getServiceUserToken()).thenReturn("some user bearer token");
+        when(authTokenGenerator.generate()).thenReturn("some service bearer token");
+
+        when(refDataCaseWorkerApi.fetchUsersById(any(), any(), any(UserIds.class))).thenAnswer(invocation ->
+            invocation.<UserIds>getArgument(2).getUserIds().stream()
+                .map(id -> CaseWorkerProfile.builder().id(id).firstName("name").lastName(id).build())
+                .collect(Collectors.toList())
+        );
+
+        List<CaseWorkerName> firstLookup = caseWorkerService.getCaseWorkerNameForActorIds(List.of("a", "b", "c"));
+
+        assertThat(firstLookup).extracting(CaseWorkerName::getId).containsExactly("a", "b", "c");
+        verify(refDataCaseWorkerApi).fetchUsersById(any(), any(), eq(new UserIds(List.of("a", "b"))));
+        verify(refDataCaseWorkerApi).fetchUsersById(any(), any(), eq(new UserIds(List.of("c"))));
+
+        List<CaseWorkerName> secondLookup = caseWorkerService.getCaseWorkerNameForActorIds(List.of("c", "d"));
+
+        assertThat(secondLookup).extracting(CaseWorkerName::getFormattedName).containsExactly("name c", "name d");
+        verify(refDataCaseWorkerApi).fetchUsersById(any(), any(), eq(new UserIds(List.of("d"))));
+        verify(refDataCaseWorkerApi, times(3)).fetchUsersById(any(), any(), any(UserIds.class));
+    }
+
+    @Test
+    void should_reuse_case_worker_names_resolved_for_a_location() {
+
+        when(roleAssignmentService.queryRoleAssignments(any(QueryRequest.class)))
+            .thenReturn(new RoleAssignmentResource(List.of(Assignment.builder().actorId(ACTOR_ID).build())));
+        when(idamService.getServiceUserToken()).thenReturn("some user bearer token");
+        when(authTokenGenerator.generate()).thenReturn("some service bearer token");
+        when(refDataCaseWorkerApi.fetchUsersById(any(), any(), any(UserIds.class))).thenReturn(List.of(
+            CaseWorkerProfile.builder().id(ACTOR_ID).firstName("some firstname").lastName("some lastname").build()
+        ));
+
+        List<CaseWorkerName> expected = List.of(new CaseWorkerName(ACTOR_ID, "some firstname some lastname"));
+
+        assertThat(caseWorkerService.getCaseWorkerNamesForLocationAndClassification("some location", "PUBLIC"))
+            .isEqualTo(expected);
+        assertThat(caseWorkerService.getCaseWorkerNamesForLocationAndClassification("some location", "PUBLIC"))
+            .isEqualTo(expected);
+
+        verify(roleAssignmentService, times(1)).queryRoleAssignments(any(QueryRequest.class));
+        verify(refDataCaseWorkerApi, times(1)).fetchUsersById(any(), any(), any(UserIds.class));
+    }
 }
@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.io.ClassPathResource;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.HearingCentre;
+
+/*
+Checks the finder against the previous regex and stream based lookup, over every area in the catchment
+configuration the application is deployed with.
+*/
+@SuppressWarnings("unchecked")
+class HearingCentreFinderParityTest {
+
+    private static final Pattern POSTCODE_AREA_PATTERN = Pattern.compile("([A-Za-z]+).*");
+
+    private final HearingCentre defaultHearingCentre = HearingCentre.NEWPORT;
+
+    private Map<HearingCentre, List<String>> hearingCentreCatchmentAreas;
+    private Map<HearingCentre, String> hearingCentreActivationDates;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        MutablePropertySources propertySources = new MutablePropertySources();
+        new YamlPropertySourceLoader()
+            .load("postcodes", new ClassPathResource("application-postcodes.yaml"))
+            .forEach(propertySources::addLast);
+
+        Binder binder = new Binder(
+            ConfigurationPropertySources.from(propertySources),
+            new PropertySourcesPlaceholdersResolver(propertySources)
+        );
+
+        hearingCentreCatchmentAreas = new EnumMap<>(
+            (Map<HearingCentre, List<String>>) binder.bind(
+                "hearingCentreCatchmentAreas",
+                Bindable.of(ResolvableType.forClassWithGenerics(
+                    Map.class,
+                    ResolvableType.forClass(HearingCentre.class),
+                    ResolvableType.forClassWithGenerics(List.class, String.class)
+                ))
+            ).get()
+        );
+
+        hearingCentreActivationDates = new EnumMap<>(
+            binder.bind("hearingCentreActivationDates", Bindable.mapOf(HearingCentre.class, String.class)).get()
+        );
+    }
+
+    @Test
+    void should_find_same_hearing_centre_as_previous_lookup_for_every_configured_area() {
+
+        assertThat(hearingCentreCatchmentAreas).isNotEmpty();
+
+        HearingCentreFinder hearingCentreFinder =
+            new HearingCentreFinder(defaultHearingCentre, hearingCentreCatchmentAreas, hearingCentreActivationDates);
+
+        postcodes().forEach(postcode ->
+            assertThat(hearingCentreFinder.find(postcode))
+                .describedAs(postcode)
+                .isEqualTo(previousFind(postcode, hearingCentreActivationDates, LocalDate.now()))
+        );
+    }
+
+    @Test
+    void should_find_same_hearing_centre_as_previous_lookup_when_some_hearing_centres_not_active() {
+
+        LocalDate today = LocalDate.of(2019, 12, 5);
+        Clock clock = Clock.fixed(today.atTime(9, 30).atZone(ZoneId.of("Europe/London")).toInstant(), ZoneId.of("Europe/London"));
+
+        HearingCentreFinder hearingCentreFinder =
+            new HearingCentreFinder(defaultHearingCentre, hearingCentreCatchmentAreas, hearingCentreActivationDates, clock);
+
+        postcodes().forEach(postcode ->
+            assertThat(hearingCentreFinder.find(postcode))
+                .describedAs(postcode)
+                .isEqualTo(previousFind(postcode, hearingCentreActivationDates, today))
+        );
+
+        assertThat(hearingCentreFinder.hearingCentreIsActive(HearingCentre.BIRMINGHAM)).isTrue();
+        assertThat(hearingCentreFinder.hearingCentreIsActive(HearingCentre.HATTON_CROSS)).isFalse();
+        assertThat(hearingCentreFinder.hearingCentreIsActive("2019-12-05")).isTrue();
+        assertThat(hearingCentreFinder.hearingCentreIsActive("2019-12-06")).isFalse();
+    }
+
+    private List<String> postcodes() {
+
+        List<String> postcodes = new ArrayList<>();
+
+        hearingCentreCatchmentAreas.values().forEach(postcodeAreas ->
+            postcodeAreas.forEach(postcodeArea -> {
+                postcodes.add(postcodeArea + "1 1AA");
+                postcodes.add(postcodeArea.toLowerCase() + "12 3ab");
+                postcodes.add(" " + postcodeArea + "9");
+                postcodes.add(postcodeArea);
+                postcodes.add(postcodeArea + "X1 1AA");
+            })
+        );
+
+        for (char first = 'A'; first <= 'Z'; first++) {
+            postcodes.add(first + "1 1AA");
+            for (char second = 'A'; second <= 'Z'; second++) {
+                postcodes.add("" + first + second + "1 1AA");
+            }
+        }
+
+        postcodes.add("");
+        postcodes.add("   ");
+        postcodes.add("123 456");
+        postcodes.add("1BD 2AB");
+
+        return postcodes;
+    }
+
+    private HearingCentre previousFind(
+        String postcode,
+        Map<HearingCentre, String> hearingCentreActivationDates,
+        LocalDate today
+    ) {
+        Matcher postcodeAreaMatcher = POSTCODE_AREA_PATTERN.matcher(postcode);
+
+        if (postcodeAreaMatcher.find()
+            && postcodeAreaMatcher.groupCount() == 1) {
+
+            String postcodeArea = postcodeAreaMatcher.group(1).toUpperCase();
+
+            Optional<HearingCentre> hearingCentre =
+                hearingCentreCatchmentAreas
+                    .entrySet()
+                    .stream()
+                    .filter(catchmentArea -> catchmentArea.getValue().contains(postcodeArea))
+                    .map(Map.Entry::getKey)
+                    .findFirst();
+
+            if (hearingCentre.isPresent()
+                && !LocalDate.parse(hearingCentreActivationDates.get(hearingCentre.get())).isAfter(today)) {
+                return hearingCentre.get();
+            }
+        }
+
+        return defaultHearingCentre;
+    }
+}
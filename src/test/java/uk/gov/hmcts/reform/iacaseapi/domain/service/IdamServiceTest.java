@@ -1,13 +1,21 @@
 package uk.gov.hmcts.reform.iacaseapi.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -24,23 +32,37 @@ class IdamServiceTest {
     public static final String SCOPE = "some scope";
     public static final String CLIENT_ID = "some client id";
     public static final String CLIENT_SECRET = "some client secret";
+    public static final long TOKEN_REFRESH_MARGIN = 300;
+
+    private final Instant now = Instant.parse("2023-01-01T10:00:00Z");
 
     @Mock
     private IdamApi idamApi;
+    @Mock
+    private Clock clock;
 
-    @Test
-    void getUserToken() {
+    private IdamService idamService;
+
+    @BeforeEach
+    void setUp() {
 
-        IdamService idamService = new IdamService(
+        idamService = new IdamService(
             SOME_SYSTEM_USER,
             SYSTEM_USER_PASS,
             REDIRECT_URL,
             SCOPE,
             CLIENT_ID,
             CLIENT_SECRET,
-            idamApi
+            TOKEN_REFRESH_MARGIN,
+            idamApi,
+            clock
         );
+    }
 
+    @Test
+    void getUserToken() {
+
+        when(clock.instant()).thenReturn(now);
         when(idamApi.token(anyMap())).thenReturn(new Token("some user token", SCOPE));
 
         String actual = idamService.getServiceUserToken();
@@ -58,4 +80,89 @@ class IdamServiceTest {
 
         verify(idamApi).token(eq(expectedIdamApiParameter));
     }
+
+    @Test
+    void should_reuse_token_until_refresh_margin() {
+
+        when(clock.instant()).thenReturn(now, now, now.plusSeconds(3000));
+        when(idamApi.token(anyMap())).thenReturn(new Token("some user token", SCOPE, 3600L));
+
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some user token");
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some user token");
+
+        verify(idamApi, times(1)).token(anyMap());
+    }
+
+    @Test
+    void should_refresh_token_within_refresh_margin() {
+
+        when(clock.instant()).thenReturn(now, now, now.plusSeconds(3400));
+        when(idamApi.token(anyMap())).thenReturn(
+            new Token("some user token", SCOPE, 3600L),
+            new Token("some other user token", SCOPE, 3600L)
+        );
+
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some user token");
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some other user token");
+
+        verify(idamApi, times(2)).token(anyMap());
+    }
+
+    @Test
+    void should_reuse_current_token_when_refresh_fails_before_expiry() {
+
+        when(clock.instant()).thenReturn(now, now, now.plusSeconds(3400));
+        when(idamApi.token(anyMap()))
+            .thenReturn(new Token("some user token", SCOPE, 3600L))
+            .thenThrow(new RuntimeException("IDAM unavailable"));
+
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some user token");
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some user token");
+
+        verify(idamApi, times(2)).token(anyMap());
+    }
+
+    @Test
+    void should_fetch_token_synchronously_once_expired() {
+
+        when(clock.instant()).thenReturn(now, now, now.plusSeconds(3600));
+        when(idamApi.token(anyMap()))
+            .thenReturn(new Token("some user token", SCOPE, 3600L))
+            .thenThrow(new RuntimeException("IDAM unavailable"));
+
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer some user token");
+        assertThatThrownBy(() -> idamService.getServiceUserToken())
+            .isExactlyInstanceOf(RuntimeException.class)
+            .hasMessage("IDAM unavailable");
+    }
+
+    @Test
+    void should_read_expiry_from_access_token_when_expires_in_missing() {
+
+        String accessToken = new PlainJWT(
+            new JWTClaimsSet.Builder()
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .build()
+        ).serialize();
+
+        when(clock.instant()).thenReturn(now, now, now.plusSeconds(3000));
+        when(idamApi.token(anyMap())).thenReturn(new Token(accessToken, SCOPE));
+
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer " + accessToken);
+        assertThat(idamService.getServiceUserToken()).isEqualTo("Bearer " + accessToken);
+
+        verify(idamApi, times(1)).token(anyMap());
+    }
+
+    @Test
+    void should_not_cache_token_without_expiry() {
+
+        when(clock.instant()).thenReturn(now);
+        when(idamApi.token(anyMap())).thenReturn(new Token("some user token", SCOPE));
+
+        idamService.getServiceUserToken();
+        idamService.getServiceUserToken();
+
+        verify(idamApi, times(2)).token(anyMap());
+    }
 }
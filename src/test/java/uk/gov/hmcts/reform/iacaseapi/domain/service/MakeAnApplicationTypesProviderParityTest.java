@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.iacaseapi.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.MakeAnApplicationTypes.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.io.ClassPathResource;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.DynamicList;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.MakeAnApplicationTypes;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.Value;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.Callback;
+
+/*
+Checks the provider, configured as the application is deployed, against the previous switch on state,
+for every state and for users with and without the legal representative role.
+*/
+@SuppressWarnings("unchecked")
+class MakeAnApplicationTypesProviderParityTest {
+
+    private static final String ROLE_LEGAL_REP = "caseworker-ia-legalrep-solicitor";
+
+    private static final List<List<String>> ROLES = List.of(
+        Collections.emptyList(),
+        List.of("caseworker-ia-caseofficer"),
+        List.of(ROLE_LEGAL_REP),
+        List.of("caseworker-ia", ROLE_LEGAL_REP)
+    );
+
+    static MakeAnApplicationTypesProvider configuredProvider(UserDetails userDetails) throws IOException {
+
+        MutablePropertySources propertySources = new MutablePropertySources();
+        new YamlPropertySourceLoader()
+            .load("make-an-application", new ClassPathResource("application-make-an-application.yaml"))
+            .forEach(propertySources::addLast);
+
+        Binder binder = new Binder(
+            ConfigurationPropertySources.from(propertySources),
+            new PropertySourcesPlaceholdersResolver(propertySources)
+        );
+
+        Map<State, List<MakeAnApplicationTypes>> applicationTypes = new EnumMap<>(
+            (Map<State, List<MakeAnApplicationTypes>>) binder.bind(
+                "makeAnApplicationTypes",
+                Bindable.of(ResolvableType.forClassWithGenerics(
+                    Map.class,
+                    ResolvableType.forClass(State.class),
+                    ResolvableType.forClassWithGenerics(List.class, MakeAnApplicationTypes.class)
+                ))
+            ).get()
+        );
+
+        Map<MakeAnApplicationTypes, List<String>> applicationTypeRoles = new EnumMap<>(
+            (Map<MakeAnApplicationTypes, List<String>>) binder.bind(
+                "makeAnApplicationTypeRoles",
+                Bindable.of(ResolvableType.forClassWithGenerics(
+                    Map.class,
+                    ResolvableType.forClass(MakeAnApplicationTypes.class),
+                    ResolvableType.forClassWithGenerics(List.class, String.class)
+                ))
+            ).get()
+        );
+
+        return new MakeAnApplicationTypesProvider(userDetails, applicationTypes, applicationTypeRoles);
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    void should_offer_same_application_types_as_previous_provider(State state) throws IOException {
+
+        for (List<String> roles : ROLES) {
+
+            UserDetails userDetails = mock(UserDetails.class);
+            when(userDetails.getRoles()).thenReturn(roles);
+
+            Callback<AsylumCase> callback = mock(Callback.class);
+            CaseDetails<AsylumCase> caseDetails = mock(CaseDetails.class);
+            when(callback.getCaseDetails()).thenReturn(caseDetails);
+            when(caseDetails.getState()).thenReturn(state);
+
+            assertThat(configuredProvider(userDetails).getMakeAnApplicationTypes(callback))
+                .describedAs("%s with roles %s", state, roles)
+                .isEqualTo(previousMakeAnApplicationTypes(state, roles.contains(ROLE_LEGAL_REP)));
+        }
+    }
+
+    private DynamicList previousMakeAnApplicationTypes(State currentState, boolean isLegalRep) {
+
+        final List<Value> values = new ArrayList<>();
+        switch (currentState) {
+            case APPEAL_SUBMITTED:
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                }
+                values.add(value(WITHDRAW));
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(OTHER));
+                break;
+
+            case ENDED:
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(REINSTATE));
+                break;
+
+            case PENDING_PAYMENT:
+            case AWAITING_RESPONDENT_EVIDENCE:
+            case CASE_BUILDING:
+            case AWAITING_REASONS_FOR_APPEAL:
+            case AWAITING_CLARIFYING_QUESTIONS_ANSWERS:
+            case AWAITING_CMA_REQUIREMENTS:
+            case CASE_UNDER_REVIEW:
+            case REASONS_FOR_APPEAL_SUBMITTED:
+            case RESPONDENT_REVIEW:
+            case SUBMIT_HEARING_REQUIREMENTS:
+                values.add(value(TIME_EXTENSION));
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                }
+                values.add(value(WITHDRAW));
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(OTHER));
+                break;
+
+            case FTPA_SUBMITTED:
+            case FTPA_DECIDED:
+                values.add(value(TIME_EXTENSION));
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                }
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(OTHER));
+                break;
+
+            case FINAL_BUNDLING:
+                values.add(value(TIME_EXTENSION));
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                    values.add(value(UPDATE_HEARING_REQUIREMENTS));
+                }
+                values.add(value(WITHDRAW));
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(OTHER));
+                break;
+
+            case LISTING:
+                values.add(value(TIME_EXTENSION));
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                    values.add(value(UPDATE_HEARING_REQUIREMENTS));
+                }
+                values.add(value(WITHDRAW));
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                break;
+
+            case ADJOURNED:
+            case PREPARE_FOR_HEARING:
+            case PRE_HEARING:
+            case DECISION:
+                values.add(value(ADJOURN));
+                values.add(value(EXPEDITE));
+                values.add(value(TRANSFER));
+                values.add(value(TIME_EXTENSION));
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                    values.add(value(UPDATE_HEARING_REQUIREMENTS));
+                }
+                values.add(value(WITHDRAW));
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(OTHER));
+                break;
+
+            case DECIDED:
+                if (isLegalRep) {
+                    values.add(value(UPDATE_APPEAL_DETAILS));
+                }
+                values.add(value(LINK_OR_UNLINK));
+                values.add(value(JUDGE_REVIEW));
+                values.add(value(OTHER));
+                break;
+
+            default:
+                break;
+        }
+
+        return values.isEmpty()
+            ? new DynamicList("")
+            : new DynamicList(values.get(0), values);
+    }
+
+    private Value value(MakeAnApplicationTypes type) {
+        return new Value(type.name(), type.toString());
+    }
+}
@@ -22,21 +22,26 @@ import static uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State.ENDED;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State.FINAL_BUNDLING;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State.LISTING;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.DynamicList;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.MakeAnApplicationTypes;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.Value;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseDetails;
@@ -55,9 +60,13 @@ class MakeAnApplicationTypesProviderTest {
 
     @Mock UserDetails userDetails;
 
-    @InjectMocks
     private MakeAnApplicationTypesProvider makeAnApplicationTypesProvider;
 
+    @BeforeEach
+    public void setUp() throws IOException {
+        makeAnApplicationTypesProvider = MakeAnApplicationTypesProviderParityTest.configuredProvider(userDetails);
+    }
+
     @Test
     void should_return_given_application_types_in_appeal_submitted_state() {
 
@@ -280,4 +289,16 @@ class MakeAnApplicationTypesProviderTest {
             .isExactlyInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void should_not_allow_application_types_restricted_by_too_many_roles() {
+
+        Map<MakeAnApplicationTypes, List<String>> applicationTypeRoles = Map.of(
+            OTHER,
+            IntStream.rangeClosed(1, 9).mapToObj(i -> "role-" + i).collect(Collectors.toList())
+        );
+
+        assertThatThrownBy(() -> new MakeAnApplicationTypesProvider(userDetails, Map.of(), applicationTypeRoles))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Application types cannot be restricted by more than 8 roles");
+    }
 }
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.Event;
+
+class CallbackHandlerMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallbackHandlerMetrics callbackHandlerMetrics = new CallbackHandlerMetrics(meterRegistry);
+
+    private final Object callbackHandler = new Object();
+
+    @Test
+    void should_count_can_handle_results_per_handler_event_stage_and_priority() {
+
+        callbackHandlerMetrics.recordCanHandle(callbackHandler, Event.SUBMIT_APPEAL, "aboutToSubmit", "LATE", true);
+        callbackHandlerMetrics.recordCanHandle(callbackHandler, Event.SUBMIT_APPEAL, "aboutToSubmit", "LATE", true);
+        callbackHandlerMetrics.recordCanHandle(callbackHandler, Event.SUBMIT_APPEAL, "aboutToSubmit", "LATE", false);
+        callbackHandlerMetrics.recordCanHandle(callbackHandler, Event.BUILD_CASE, "aboutToSubmit", "LATE", true);
+        callbackHandlerMetrics.recordCanHandle(callbackHandler, null, "aboutToStart", "EARLY", true);
+
+        assertThat(canHandleCount(Event.SUBMIT_APPEAL.toString(), "aboutToSubmit", "LATE", "hit")).isEqualTo(2.0);
+        assertThat(canHandleCount(Event.SUBMIT_APPEAL.toString(), "aboutToSubmit", "LATE", "miss")).isEqualTo(1.0);
+        assertThat(canHandleCount(Event.BUILD_CASE.toString(), "aboutToSubmit", "LATE", "hit")).isEqualTo(1.0);
+        assertThat(canHandleCount("null", "aboutToStart", "EARLY", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_time_handle_and_return_its_result() {
+
+        String result = callbackHandlerMetrics.recordHandle(callbackHandler, Event.SUBMIT_APPEAL, "aboutToSubmit", "LATE", () -> "handled");
+        callbackHandlerMetrics.recordHandle(callbackHandler, Event.SUBMIT_APPEAL, "aboutToSubmit", "LATE", () -> "handled");
+
+        assertThat(result).isEqualTo("handled");
+        assertThat(meterRegistry.find(CallbackHandlerMetrics.HANDLER_TIMER)
+            .tag("handler", "Object")
+            .tag("event", Event.SUBMIT_APPEAL.toString())
+            .timers())
+            .hasSize(1)
+            .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(2L));
+    }
+
+    private double canHandleCount(String event, String stage, String priority, String result) {
+        return meterRegistry.get(CallbackHandlerMetrics.CAN_HANDLE_COUNTER)
+            .tag("handler", "Object")
+            .tag("event", event)
+            .tag("stage", stage)
+            .tag("priority", priority)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+}
@@ -6,11 +6,15 @@ import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.contains;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,9 +25,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.AppealType;
 
@@ -40,50 +46,48 @@ class DbAppealReferenceNumberGeneratorTest {
     private DateProvider dateProvider;
     @Mock
     private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @Captor
     private ArgumentCaptor<MapSqlParameterSource> insertParametersCaptor;
-    @Captor
-    private ArgumentCaptor<MapSqlParameterSource> selectParametersCaptor;
-    private MapSqlParameterSource expectedParameters;
-    private String expectedAppealReferenceNumber = "PA/12345/2017";
 
     private DbAppealReferenceNumberGenerator dbAppealReferenceNumberGenerator;
 
     @BeforeEach
     public void setUp() {
 
-        dbAppealReferenceNumberGenerator =
-            new DbAppealReferenceNumberGenerator(
-                SEQUENCE_SEED,
-                dateProvider,
-                jdbcTemplate
-            );
+        dbAppealReferenceNumberGenerator = generator(1);
 
         when(dateProvider.now()).thenReturn(LocalDate.of(currentYear, 1, 1));
 
-        expectedParameters = new MapSqlParameterSource();
-        expectedParameters.addValue("caseId", caseId);
-        expectedParameters.addValue("appealType", appealType.name());
-        expectedParameters.addValue("year", currentYear);
-        expectedParameters.addValue("seed", SEQUENCE_SEED);
+        when(transactionTemplate.execute(any(TransactionCallback.class)))
+            .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+
+        when(jdbcTemplate.query(
+            contains("FROM ia_case_api.appeal_reference_numbers"),
+            any(MapSqlParameterSource.class),
+            any(RowMapper.class)
+        )).thenReturn(Collections.emptyList());
+
+        when(jdbcTemplate.update(
+            contains("UPDATE ia_case_api.appeal_reference_sequences"),
+            any(MapSqlParameterSource.class)
+        )).thenReturn(1);
 
         when(jdbcTemplate.queryForObject(
-            and(
-                contains("SELECT"),
-                contains("FROM ia_case_api.appeal_reference_numbers")
-            ),
+            contains("FROM ia_case_api.appeal_reference_sequences"),
             any(MapSqlParameterSource.class),
-            eq(String.class)
-        )).thenReturn(expectedAppealReferenceNumber);
+            eq(Integer.class)
+        )).thenReturn(50001, 50002, 50003);
     }
 
     @Test
-    void should_call_db_to_generate_new_appeal_reference_number() {
+    void should_reserve_next_sequence_and_store_appeal_reference_number() {
 
         String appealReferenceNumber =
             dbAppealReferenceNumberGenerator.generate(caseId, appealType);
 
-        assertEquals(expectedAppealReferenceNumber, appealReferenceNumber);
+        assertEquals("PA/50001/2017", appealReferenceNumber);
 
         verify(jdbcTemplate, times(1))
             .update(
@@ -94,66 +98,150 @@ class DbAppealReferenceNumberGeneratorTest {
                 insertParametersCaptor.capture()
             );
 
+        MapSqlParameterSource actualInsertParameters = insertParametersCaptor.getValue();
+
+        assertEquals(caseId, actualInsertParameters.getValue("caseId"));
+        assertEquals(appealType.name(), actualInsertParameters.getValue("appealType"));
+        assertEquals(currentYear, actualInsertParameters.getValue("year"));
+        assertEquals(50001, actualInsertParameters.getValue("sequence"));
+    }
+
+    @Test
+    void should_return_existing_appeal_reference_number_without_reserving_a_sequence() {
+
+        when(jdbcTemplate.query(
+            contains("FROM ia_case_api.appeal_reference_numbers"),
+            any(MapSqlParameterSource.class),
+            any(RowMapper.class)
+        )).thenReturn(List.of("PA/12345/2017"));
+
+        String appealReferenceNumber =
+            dbAppealReferenceNumberGenerator.generate(caseId, appealType);
+
+        assertEquals("PA/12345/2017", appealReferenceNumber);
+
+        verify(transactionTemplate, never()).execute(any(TransactionCallback.class));
+    }
+
+    @Test
+    void should_create_sequence_from_seed_when_first_of_type_and_year() {
+
+        when(jdbcTemplate.update(
+            contains("UPDATE ia_case_api.appeal_reference_sequences"),
+            any(MapSqlParameterSource.class)
+        )).thenReturn(0, 1);
+
+        String appealReferenceNumber =
+            dbAppealReferenceNumberGenerator.generate(caseId, appealType);
+
+        assertEquals("PA/50001/2017", appealReferenceNumber);
+
         verify(jdbcTemplate, times(1))
-            .queryForObject(
+            .update(
                 and(
-                    contains("SELECT"),
-                    contains("FROM ia_case_api.appeal_reference_numbers")
+                    contains("INSERT INTO ia_case_api.appeal_reference_sequences"),
+                    contains("COALESCE(MAX(sequence), :seed)")
                 ),
-                selectParametersCaptor.capture(),
-                eq(String.class)
+                insertParametersCaptor.capture()
             );
 
-        MapSqlParameterSource actualInsertParameters =
-            insertParametersCaptor
-                .getAllValues()
-                .get(0);
+        assertEquals(SEQUENCE_SEED, insertParametersCaptor.getValue().getValue("seed"));
+    }
 
-        assertEquals(caseId, actualInsertParameters.getValue("caseId"));
-        assertEquals(appealType.name(), actualInsertParameters.getValue("appealType"));
-        assertEquals(currentYear, actualInsertParameters.getValue("year"));
-        assertEquals(SEQUENCE_SEED, actualInsertParameters.getValue("seed"));
+    @Test
+    void should_hand_out_reserved_block_before_reserving_again() {
+
+        dbAppealReferenceNumberGenerator = generator(3);
 
-        MapSqlParameterSource actualSelectParameters =
-            insertParametersCaptor
-                .getAllValues()
-                .get(0);
+        when(jdbcTemplate.queryForObject(
+            contains("FROM ia_case_api.appeal_reference_sequences"),
+            any(MapSqlParameterSource.class),
+            eq(Integer.class)
+        )).thenReturn(50003, 50006);
 
-        assertEquals(caseId, actualSelectParameters.getValue("caseId"));
-        assertEquals(appealType.name(), actualSelectParameters.getValue("appealType"));
-        assertEquals(currentYear, actualSelectParameters.getValue("year"));
+        assertEquals("PA/50001/2017", dbAppealReferenceNumberGenerator.generate(1, appealType));
+        assertEquals("PA/50002/2017", dbAppealReferenceNumberGenerator.generate(2, appealType));
+        assertEquals("PA/50003/2017", dbAppealReferenceNumberGenerator.generate(3, appealType));
+        assertEquals("PA/50004/2017", dbAppealReferenceNumberGenerator.generate(4, appealType));
+
+        verify(jdbcTemplate, times(2))
+            .update(
+                contains("UPDATE ia_case_api.appeal_reference_sequences"),
+                any(MapSqlParameterSource.class)
+            );
     }
 
     @Test
-    void should_return_existing_appeal_reference_number_already_when_exists() {
+    void should_return_appeal_reference_number_of_concurrent_call_for_same_case() {
+
+        when(jdbcTemplate.query(
+            contains("FROM ia_case_api.appeal_reference_numbers"),
+            any(MapSqlParameterSource.class),
+            any(RowMapper.class)
+        ))
+            .thenReturn(Collections.emptyList())
+            .thenReturn(List.of("PA/50000/2017"));
 
         when(jdbcTemplate.update(
-            and(
-                contains("INSERT"),
-                contains("INTO ia_case_api.appeal_reference_numbers")
-            ),
+            contains("INTO ia_case_api.appeal_reference_numbers"),
             any(MapSqlParameterSource.class)
         )).thenThrow(DuplicateKeyException.class);
 
         String appealReferenceNumber =
             dbAppealReferenceNumberGenerator.generate(caseId, appealType);
 
-        assertEquals(expectedAppealReferenceNumber, appealReferenceNumber);
+        assertEquals("PA/50000/2017", appealReferenceNumber);
     }
 
     @Test
-    void should_throw_when_appeal_reference_number_for_case_not_found() {
+    void should_reserve_another_sequence_when_sequence_already_taken() {
 
-        when(jdbcTemplate.queryForObject(
-            and(
-                contains("SELECT"),
-                contains("FROM ia_case_api.appeal_reference_numbers")
-            ),
-            any(MapSqlParameterSource.class),
-            eq(String.class)
-        )).thenThrow(EmptyResultDataAccessException.class);
+        when(jdbcTemplate.update(
+            contains("INTO ia_case_api.appeal_reference_numbers"),
+            any(MapSqlParameterSource.class)
+        ))
+            .thenThrow(DuplicateKeyException.class)
+            .thenReturn(1);
+
+        String appealReferenceNumber =
+            dbAppealReferenceNumberGenerator.generate(caseId, appealType);
+
+        assertEquals("PA/50002/2017", appealReferenceNumber);
+    }
+
+    @Test
+    void should_answer_repeated_lookups_for_case_from_cache() {
+
+        assertEquals("PA/50001/2017", dbAppealReferenceNumberGenerator.generate(caseId, appealType));
+        assertEquals("PA/50001/2017", dbAppealReferenceNumberGenerator.generate(caseId, appealType));
+
+        verify(jdbcTemplate, times(1))
+            .query(
+                contains("FROM ia_case_api.appeal_reference_numbers"),
+                any(MapSqlParameterSource.class),
+                any(RowMapper.class)
+            );
+        verify(transactionTemplate, times(1)).execute(any(TransactionCallback.class));
+    }
+
+    @Test
+    void should_throw_when_block_size_not_positive() {
+
+        assertThatThrownBy(() -> generator(0))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("appealReferenceBlockSize must be positive");
+    }
 
-        assertThatThrownBy(() -> dbAppealReferenceNumberGenerator.generate(caseId, appealType))
-            .isExactlyInstanceOf(IllegalStateException.class);
+    private DbAppealReferenceNumberGenerator generator(int blockSize) {
+        return new DbAppealReferenceNumberGenerator(
+            SEQUENCE_SEED,
+            blockSize,
+            dateProvider,
+            jdbcTemplate,
+            transactionTemplate,
+            60,
+            100,
+            new SimpleMeterRegistry()
+        );
     }
 }
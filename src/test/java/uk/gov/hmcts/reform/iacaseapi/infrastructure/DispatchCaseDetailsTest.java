@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacaseapi.domain.RequiredFieldMissingException;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.State;
+
+class DispatchCaseDetailsTest {
+
+    private final LocalDateTime createdDate = LocalDateTime.now();
+    private final AsylumCase asylumCase = new AsylumCase();
+    private final CaseDetails<AsylumCase> caseDetails = new CaseDetails<>(
+        123L,
+        "IA",
+        State.APPEAL_SUBMITTED,
+        asylumCase,
+        createdDate,
+        "PUBLIC",
+        Collections.emptyMap()
+    );
+
+    @Test
+    void should_copy_case_details() {
+
+        DispatchCaseDetails<AsylumCase> dispatchCaseDetails = new DispatchCaseDetails<>(caseDetails, asylumCase);
+
+        assertThat(dispatchCaseDetails.getId()).isEqualTo(123L);
+        assertThat(dispatchCaseDetails.getJurisdiction()).isEqualTo("IA");
+        assertThat(dispatchCaseDetails.getState()).isEqualTo(State.APPEAL_SUBMITTED);
+        assertThat(dispatchCaseDetails.getCaseData()).isSameAs(asylumCase);
+        assertThat(dispatchCaseDetails.getCreatedDate()).isEqualTo(createdDate);
+        assertThat(dispatchCaseDetails.getSecurityClassification()).isEqualTo("PUBLIC");
+        assertThat(dispatchCaseDetails.getSupplementaryData()).isEmpty();
+        assertThat(dispatchCaseDetails).isEqualTo(caseDetails);
+    }
+
+    @Test
+    void should_repoint_case_data_and_state() {
+
+        DispatchCaseDetails<AsylumCase> dispatchCaseDetails = new DispatchCaseDetails<>(caseDetails, asylumCase);
+        AsylumCase updatedAsylumCase = new AsylumCase();
+
+        dispatchCaseDetails.setCaseData(updatedAsylumCase);
+        dispatchCaseDetails.setState(State.CASE_BUILDING);
+
+        assertThat(dispatchCaseDetails.getCaseData()).isSameAs(updatedAsylumCase);
+        assertThat(dispatchCaseDetails.getState()).isEqualTo(State.CASE_BUILDING);
+        assertThat(caseDetails.getState()).isEqualTo(State.APPEAL_SUBMITTED);
+    }
+
+    @Test
+    void should_throw_when_case_data_is_missing() {
+
+        DispatchCaseDetails<AsylumCase> dispatchCaseDetails = new DispatchCaseDetails<>(caseDetails, null);
+
+        assertThatThrownBy(dispatchCaseDetails::getCaseData)
+            .isExactlyInstanceOf(RequiredFieldMissingException.class)
+            .hasMessage("caseData field is required");
+    }
+}
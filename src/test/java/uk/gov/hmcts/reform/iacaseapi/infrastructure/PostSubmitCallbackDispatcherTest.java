@@ -8,6 +8,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -45,6 +46,8 @@ class PostSubmitCallbackDispatcherTest {
     @Mock
     private PostSubmitCallbackResponse response;
 
+    private final CallbackHandlerMetrics callbackHandlerMetrics = new CallbackHandlerMetrics(new SimpleMeterRegistry());
+
     private PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher;
 
     @BeforeEach
@@ -54,7 +57,8 @@ class PostSubmitCallbackDispatcherTest {
                 handler1,
                 handler2,
                 handler3
-            )
+            ),
+            callbackHandlerMetrics
         );
     }
 
@@ -93,7 +97,7 @@ class PostSubmitCallbackDispatcherTest {
     void should_not_error_if_no_handlers_are_provided() {
 
         PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher =
-            new PostSubmitCallbackDispatcher<>(Collections.emptyList());
+            new PostSubmitCallbackDispatcher<>(Collections.emptyList(), callbackHandlerMetrics);
 
         try {
 
@@ -112,7 +116,7 @@ class PostSubmitCallbackDispatcherTest {
     @Test
     void should_not_allow_null_handlers() {
 
-        assertThatThrownBy(() -> new PostSubmitCallbackDispatcher<>(null))
+        assertThatThrownBy(() -> new PostSubmitCallbackDispatcher<>(null, callbackHandlerMetrics))
             .hasMessage("callbackHandlers must not be null")
             .isExactlyInstanceOf(NullPointerException.class);
     }
@@ -142,7 +146,8 @@ class PostSubmitCallbackDispatcherTest {
                 h1,
                 h6,
                 h5
-            )
+            ),
+            callbackHandlerMetrics
         );
 
         List<PostSubmitCallbackHandler<AsylumCase>> sortedDispatcher =
@@ -19,6 +19,10 @@ import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.callback.PreSubmitCallbackStage.ABOUT_TO_SUBMIT;
 
 import com.google.common.collect.ImmutableSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -94,6 +98,9 @@ class PreSubmitCallbackDispatcherTest {
     @Mock
     private PreSubmitCallbackResponse<CaseData> response3;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallbackHandlerMetrics callbackHandlerMetrics = new CallbackHandlerMetrics(meterRegistry);
+
     private PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher;
 
     @BeforeEach
@@ -106,7 +113,8 @@ class PreSubmitCallbackDispatcherTest {
                 handler3
             ),
             eventValidChecker,
-            Arrays.asList(stateHandler)
+            Arrays.asList(stateHandler),
+            callbackHandlerMetrics
         );
 
         when(eventValidChecker.check(any(Callback.class))).thenReturn(new EventValid());
@@ -235,6 +243,92 @@ class PreSubmitCallbackDispatcherTest {
         }
     }
 
+    @Test
+    void should_only_route_callback_to_handlers_declaring_its_event_and_stage() {
+
+        when(handler1.getHandledEvents()).thenReturn(Set.of(Event.SUBMIT_APPEAL));
+        when(handler2.getHandledStages()).thenReturn(Set.of(PreSubmitCallbackStage.MID_EVENT));
+        when(handler3.getHandledEvents()).thenReturn(Set.of(Event.BUILD_CASE, Event.SUBMIT_APPEAL));
+        when(handler3.getHandledStages()).thenReturn(Set.of(ABOUT_TO_SUBMIT));
+
+        PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher(
+            ccdEventAuthorizor,
+            Arrays.asList(handler1, handler2, handler3),
+            eventValidChecker,
+            Collections.emptyList(),
+            callbackHandlerMetrics
+        );
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+
+        when(response3.getData()).thenReturn(caseData);
+        when(response3.getErrors()).thenReturn(Collections.emptySet());
+
+        for (DispatchPriority dispatchPriority : DispatchPriority.values()) {
+
+            when(handler1.getDispatchPriority()).thenReturn(dispatchPriority);
+            when(handler2.getDispatchPriority()).thenReturn(dispatchPriority);
+            when(handler3.getDispatchPriority()).thenReturn(dispatchPriority);
+            when(handler3.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+            when(handler3.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(response3);
+
+            PreSubmitCallbackResponse<CaseData> callbackResponse =
+                preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback);
+
+            assertEquals(caseData, callbackResponse.getData());
+
+            verify(handler1, never()).canHandle(any(), any());
+            verify(handler2, never()).canHandle(any(), any());
+            verify(handler3, times(1)).canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class));
+            verify(handler3, times(1)).handle(eq(ABOUT_TO_SUBMIT), any(Callback.class));
+
+            reset(handler1, handler2, handler3);
+        }
+    }
+
+    @Test
+    void should_record_handler_timings_and_can_handle_results() {
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+
+        when(response1.getData()).thenReturn(caseData);
+        when(response1.getErrors()).thenReturn(Collections.emptySet());
+
+        when(handler1.getDispatchPriority()).thenReturn(DispatchPriority.EARLY);
+        when(handler1.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler1.handle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(response1);
+
+        when(handler2.getDispatchPriority()).thenReturn(DispatchPriority.LATE);
+        when(handler2.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(false);
+
+        when(handler3.getDispatchPriority()).thenReturn(DispatchPriority.LATE);
+        when(handler3.canHandle(eq(ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(false);
+
+        preSubmitCallbackDispatcher.handle(ABOUT_TO_SUBMIT, callback);
+
+        Timer handlerTimer = meterRegistry
+            .find(CallbackHandlerMetrics.HANDLER_TIMER)
+            .tags(
+                "handler", handler1.getClass().getSimpleName(),
+                "event", Event.BUILD_CASE.toString(),
+                "stage", ABOUT_TO_SUBMIT.toString(),
+                "priority", DispatchPriority.EARLY.toString()
+            )
+            .timer();
+
+        assertNotNull(handlerTimer);
+        assertEquals(1, handlerTimer.count());
+
+        assertEquals(1.0, meterRegistry.find(CallbackHandlerMetrics.CAN_HANDLE_COUNTER).tag("result", "hit").counters()
+            .stream().mapToDouble(Counter::count).sum());
+        assertEquals(3.0, meterRegistry.find(CallbackHandlerMetrics.CAN_HANDLE_COUNTER).tag("result", "miss").counters()
+            .stream().mapToDouble(Counter::count).sum());
+    }
+
     @Test
     void should_not_dispatch_to_handlers_if_user_not_authorized_for_event() {
 
@@ -267,7 +361,7 @@ class PreSubmitCallbackDispatcherTest {
 
         PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher =
             new PreSubmitCallbackDispatcher(ccdEventAuthorizor, Collections.emptyList(), eventValidChecker,
-                Collections.emptyList());
+                Collections.emptyList(), callbackHandlerMetrics);
 
         for (PreSubmitCallbackStage callbackStage : PreSubmitCallbackStage.values()) {
 
@@ -299,7 +393,7 @@ class PreSubmitCallbackDispatcherTest {
     void should_not_allow_null_ccd_event_authorizor() {
 
         assertThatThrownBy(() -> new PreSubmitCallbackDispatcher<>(null, Collections.emptyList(), eventValidChecker,
-            Collections.emptyList()))
+            Collections.emptyList(), callbackHandlerMetrics))
             .hasMessage("ccdEventAuthorizor must not be null")
             .isExactlyInstanceOf(NullPointerException.class);
     }
@@ -307,7 +401,7 @@ class PreSubmitCallbackDispatcherTest {
     @Test
     void should_not_allow_null_handlers() {
 
-        assertThatThrownBy(() -> new PreSubmitCallbackDispatcher<>(ccdEventAuthorizor, null, eventValidChecker, null))
+        assertThatThrownBy(() -> new PreSubmitCallbackDispatcher<>(ccdEventAuthorizor, null, eventValidChecker, null, callbackHandlerMetrics))
             .hasMessage("callbackHandlers must not be null")
             .isExactlyInstanceOf(NullPointerException.class);
     }
@@ -344,7 +438,8 @@ class PreSubmitCallbackDispatcherTest {
                 h4
             ),
             eventValidChecker,
-            Collections.emptyList()
+            Collections.emptyList(),
+            callbackHandlerMetrics
         );
 
         List<PreSubmitCallbackHandler<AsylumCase>> sortedDispatcher =
@@ -1,14 +1,21 @@
 package uk.gov.hmcts.reform.iacaseapi.infrastructure.clients;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.launchdarkly.sdk.LDUser;
 import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
@@ -24,9 +31,17 @@ class LaunchDarklyFeatureTogglerTest {
     @Mock
     private UserDetails userDetails;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private LaunchDarklyFeatureToggler launchDarklyFeatureToggler;
 
+    @BeforeEach
+    public void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        launchDarklyFeatureToggler =
+            new LaunchDarklyFeatureToggler(ldClient, userDetails, new FeatureFlagSnapshot(), meterRegistry);
+    }
+
     @Test
     void should_return_default_value_when_key_does_not_exist() {
         String notExistingKey = "not-existing-key";
@@ -75,4 +90,40 @@ class LaunchDarklyFeatureTogglerTest {
         assertThatThrownBy(() -> launchDarklyFeatureToggler.getValue("existing-key", true))
             .isExactlyInstanceOf(IdentityManagerResponseException.class);
     }
+
+    @Test
+    void should_evaluate_each_flag_once_and_reuse_user_for_the_request() {
+        when(userDetails.getId()).thenReturn("id");
+        when(userDetails.getForename()).thenReturn("forname");
+        when(userDetails.getSurname()).thenReturn("surname");
+        when(userDetails.getEmailAddress()).thenReturn("emailAddress");
+        when(ldClient.boolVariation(eq("wa-R2-feature"), any(LDUser.class), eq(false))).thenReturn(true);
+        when(ldClient.boolVariation(eq("share-case-feature"), any(LDUser.class), eq(false))).thenReturn(false);
+
+        assertTrue(launchDarklyFeatureToggler.getValue("wa-R2-feature", false));
+        assertTrue(launchDarklyFeatureToggler.getValue("wa-R2-feature", false));
+        assertFalse(launchDarklyFeatureToggler.getValue("share-case-feature", false));
+
+        verify(ldClient, times(1)).boolVariation(eq("wa-R2-feature"), any(LDUser.class), eq(false));
+        verify(ldClient, times(1)).boolVariation(eq("share-case-feature"), any(LDUser.class), eq(false));
+        verify(userDetails, times(1)).getId();
+
+        assertThat(meterRegistry.get(LaunchDarklyFeatureToggler.LOOKUP_COUNTER).tag("flag", "wa-R2-feature")
+            .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(LaunchDarklyFeatureToggler.EVALUATION_COUNTER).tag("flag", "wa-R2-feature")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_keep_a_failed_evaluation() {
+        when(userDetails.getId())
+            .thenThrow(IdentityManagerResponseException.class)
+            .thenReturn("id");
+        when(ldClient.boolVariation(eq("existing-key"), any(LDUser.class), eq(true))).thenReturn(false);
+
+        assertThatThrownBy(() -> launchDarklyFeatureToggler.getValue("existing-key", true))
+            .isExactlyInstanceOf(IdentityManagerResponseException.class);
+
+        assertFalse(launchDarklyFeatureToggler.getValue("existing-key", true));
+    }
 }
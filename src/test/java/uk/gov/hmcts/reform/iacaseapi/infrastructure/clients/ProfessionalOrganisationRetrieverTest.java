@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -16,6 +17,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.UserDetailsProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ref.OrganisationEntityResponse;
@@ -32,6 +34,7 @@ public class ProfessionalOrganisationRetrieverTest {
     @Mock private AuthTokenGenerator serviceAuthTokenGenerator;
     @Mock private UserDetailsProvider userDetailsProvider;
     @Mock private RestTemplate restTemplate;
+    @Mock private DateProvider dateProvider;
     @Mock private ResponseEntity responseEntity;
 
     @Before
@@ -41,7 +44,8 @@ public class ProfessionalOrganisationRetrieverTest {
             serviceAuthTokenGenerator,
             userDetailsProvider,
             refdataUrl,
-            refdataPath);
+            refdataPath,
+            new ProfessionalRefDataCache(300, 3600, 100, dateProvider, new SimpleMeterRegistry(), Runnable::run));
 
     }
 
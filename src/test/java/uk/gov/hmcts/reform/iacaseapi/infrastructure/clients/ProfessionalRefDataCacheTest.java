@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.clients;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUser;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUsersResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ProfessionalRefDataCacheTest {
+
+    private static final String USER_ID = "some-user-id";
+
+    private final LocalDateTime now = LocalDateTime.of(2023, 1, 1, 10, 0);
+
+    private final ProfessionalUser activeUser = new ProfessionalUser(
+        "Active-User-Id", "first", "last", "active@example.com", newArrayList(), "ACTIVE", null, null);
+    private final ProfessionalUsersResponse usersResponse = new ProfessionalUsersResponse(newArrayList(activeUser));
+
+    @Mock
+    private DateProvider dateProvider;
+
+    private final List<Runnable> backgroundRefreshes = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProfessionalRefDataCache professionalRefDataCache;
+    private AtomicInteger fetches;
+
+    @BeforeEach
+    public void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        professionalRefDataCache = new ProfessionalRefDataCache(300, 3600, 100, dateProvider, meterRegistry, Runnable::run);
+        fetches = new AtomicInteger();
+    }
+
+    @Test
+    void should_reuse_organisation_users_until_refresh_interval() {
+
+        when(dateProvider.nowWithTime()).thenReturn(now, now.plusSeconds(299), now.plusSeconds(300));
+
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse))).isSameAs(usersResponse);
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse))).isSameAs(usersResponse);
+        assertThat(fetches.get()).isEqualTo(1);
+
+        professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse));
+        assertThat(fetches.get()).isEqualTo(2);
+
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("stale")).isEqualTo(1);
+        assertThat(count("refresh")).isEqualTo(1);
+    }
+
+    @Test
+    void should_serve_stale_value_while_one_caller_refreshes_in_background() {
+
+        ProfessionalUsersResponse refreshedResponse = new ProfessionalUsersResponse(newArrayList());
+        Executor queueingExecutor = backgroundRefreshes::add;
+        professionalRefDataCache = new ProfessionalRefDataCache(300, 3600, 100, dateProvider, meterRegistry, queueingExecutor);
+
+        when(dateProvider.nowWithTime()).thenReturn(now, now.plusSeconds(300));
+
+        professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse));
+
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(refreshedResponse))).isSameAs(usersResponse);
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(refreshedResponse))).isSameAs(usersResponse);
+        assertThat(fetches.get()).isEqualTo(1);
+        assertThat(backgroundRefreshes).hasSize(1);
+
+        backgroundRefreshes.get(0).run();
+
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(refreshedResponse))).isSameAs(refreshedResponse);
+        assertThat(fetches.get()).isEqualTo(2);
+        assertThat(count("stale")).isEqualTo(2);
+        assertThat(count("refresh")).isEqualTo(1);
+    }
+
+    @Test
+    void should_find_organisation_user_ignoring_case() {
+
+        when(dateProvider.nowWithTime()).thenReturn(now);
+
+        assertThat(professionalRefDataCache.findOrganisationUser(USER_ID, "active-user-id", fetch(usersResponse)))
+            .contains(activeUser);
+        assertThat(professionalRefDataCache.findOrganisationUser(USER_ID, "unknown-user-id", fetch(usersResponse)))
+            .isEmpty();
+    }
+
+    @Test
+    void should_not_find_organisation_user_from_cache() {
+
+        ProfessionalUsersResponse deactivatedResponse = new ProfessionalUsersResponse(newArrayList());
+
+        when(dateProvider.nowWithTime()).thenReturn(now, now.plusSeconds(10), now.plusSeconds(20));
+
+        professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse));
+
+        assertThat(professionalRefDataCache.findOrganisationUser(USER_ID, "active-user-id", fetch(deactivatedResponse)))
+            .isEmpty();
+        assertThat(fetches.get()).isEqualTo(2);
+
+        // the fetched users replace the cached ones
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse))).isSameAs(deactivatedResponse);
+        assertThat(fetches.get()).isEqualTo(2);
+        assertThat(count("bypass")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void should_serve_stale_value_when_refresh_fails() {
+
+        when(dateProvider.nowWithTime()).thenReturn(now, now.plusSeconds(600));
+
+        professionalRefDataCache.getOrganisationUsers(USER_ID, fetch(usersResponse));
+
+        Supplier<ProfessionalUsersResponse> failingFetch = () -> {
+            fetches.incrementAndGet();
+            throw new ReferenceDataIntegrationException("PRD unavailable", null);
+        };
+
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, failingFetch)).isSameAs(usersResponse);
+        assertThat(professionalRefDataCache.getOrganisationUsers(USER_ID, failingFetch)).isSameAs(usersResponse);
+
+        // the failed refresh is not retried until another refresh interval has passed
+        assertThat(fetches.get()).isEqualTo(2);
+        assertThat(count("stale")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void should_rethrow_when_nothing_cached() {
+
+        when(dateProvider.nowWithTime()).thenReturn(now);
+
+        assertThatThrownBy(() -> professionalRefDataCache.getOrganisationUsers(USER_ID, () -> {
+            throw new ReferenceDataIntegrationException("PRD unavailable", null);
+        }))
+            .isExactlyInstanceOf(ReferenceDataIntegrationException.class)
+            .hasMessage("PRD unavailable");
+    }
+
+    @Test
+    void should_not_cache_when_user_id_is_unknown() {
+
+        professionalRefDataCache.getOrganisationUsers(null, fetch(usersResponse));
+        professionalRefDataCache.getOrganisationUsers(null, fetch(usersResponse));
+
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    private Supplier<ProfessionalUsersResponse> fetch(ProfessionalUsersResponse response) {
+        return () -> {
+            fetches.incrementAndGet();
+            return response;
+        };
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(ProfessionalRefDataCache.REQUEST_COUNTER)
+            .tag("cache", ProfessionalRefDataCache.ORGANISATION_USERS_CACHE)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+}
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.iacaseapi.domain.DateProvider;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.ProfessionalUsersResponse;
 import uk.gov.hmcts.reform.iacaseapi.domain.entities.UserDetails;
 
@@ -39,6 +41,7 @@ class ProfessionalUsersRetrieverTest {
     @Mock private AuthTokenGenerator serviceAuthTokenGenerator;
     @Mock private UserDetails userDetails;
     @Mock private RestTemplate restTemplate;
+    @Mock private DateProvider dateProvider;
     @Mock private ResponseEntity responseEntity;
 
     @BeforeEach
@@ -48,7 +51,8 @@ class ProfessionalUsersRetrieverTest {
             serviceAuthTokenGenerator,
             userDetails,
             refdataUrl,
-            refdataPath);
+            refdataPath,
+            new ProfessionalRefDataCache(300, 3600, 100, dateProvider, new SimpleMeterRegistry(), Runnable::run));
 
     }
 
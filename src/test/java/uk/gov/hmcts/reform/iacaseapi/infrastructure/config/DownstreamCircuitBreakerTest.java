@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class DownstreamCircuitBreakerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final DownstreamCircuitBreaker circuitBreaker =
+        new DownstreamCircuitBreaker(50, 4, 4, 30, 2, nanoTime::get);
+
+    @Test
+    void should_stay_closed_until_minimum_number_of_calls_recorded() {
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(-1f);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void should_open_when_failure_rate_reaches_threshold() {
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void should_only_count_outcomes_within_the_sliding_window() {
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(25f);
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(0f);
+    }
+
+    @Test
+    void should_close_after_trial_calls_succeed_once_open_state_duration_passed() {
+
+        openCircuit();
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(29));
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void should_open_again_when_a_trial_call_fails() {
+
+        openCircuit();
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,213 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+@ExtendWith(MockitoExtension.class)
+class DownstreamGuardInterceptorTest {
+
+    private static final byte[] BODY = new byte[0];
+
+    @Mock private HttpRequest request;
+    @Mock private ClientHttpRequestExecution execution;
+    @Mock private ClientHttpResponse response;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DownstreamCircuitBreaker circuitBreaker;
+    private DownstreamGuardInterceptor downstreamGuardInterceptor;
+
+    @BeforeEach
+    public void setUp() {
+
+        circuitBreaker = new DownstreamCircuitBreaker(50, 2, 2, 30, 1);
+
+        downstreamGuardInterceptor = new DownstreamGuardInterceptor(List.of(
+            new DownstreamGuard(
+                "notificationsApi",
+                new HttpHost("notifications-api", 8093, "http"),
+                1,
+                0,
+                circuitBreaker,
+                meterRegistry
+            )
+        ));
+    }
+
+    @Test
+    void should_not_allow_two_guards_for_the_same_host() {
+
+        List<DownstreamGuard> guards = List.of(
+            new DownstreamGuard("notificationsApi", new HttpHost("notifications-api", 8093, "http"), 1, 0, null, meterRegistry),
+            new DownstreamGuard("documentsApi", new HttpHost("notifications-api", 8093, "http"), 1, 0, null, meterRegistry)
+        );
+
+        assertThatThrownBy(() -> new DownstreamGuardInterceptor(guards))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Downstreams notificationsApi and documentsApi are both configured for notifications-api:8093");
+    }
+
+    @Test
+    void should_pass_through_requests_to_other_hosts() throws IOException {
+
+        when(request.getURI()).thenReturn(URI.create("http://documents-api:8092/asylum/ccdAboutToSubmit"));
+        when(execution.execute(request, BODY)).thenReturn(response);
+
+        assertThat(downstreamGuardInterceptor.intercept(request, BODY, execution)).isSameAs(response);
+        assertThat(meterRegistry.find(DownstreamGuard.CALLS_COUNTER).counters())
+            .hasSize(4)
+            .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    void should_open_circuit_on_server_errors_and_fail_fast() throws IOException {
+
+        when(request.getURI()).thenReturn(URI.create("http://notifications-api:8093/asylum/ccdAboutToSubmit"));
+        when(execution.execute(request, BODY)).thenReturn(response);
+        when(response.getRawStatusCode()).thenReturn(503);
+
+        downstreamGuardInterceptor.intercept(request, BODY, execution).close();
+        downstreamGuardInterceptor.intercept(request, BODY, execution).close();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> downstreamGuardInterceptor.intercept(request, BODY, execution))
+            .isExactlyInstanceOf(DownstreamUnavailableException.class)
+            .hasMessage("Circuit breaker for downstream notificationsApi is open");
+
+        verify(execution, times(2)).execute(request, BODY);
+        assertThat(meterRegistry.get(DownstreamGuard.CALLS_COUNTER).tag("outcome", "failure").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(DownstreamGuard.CALLS_COUNTER).tag("outcome", "short_circuited").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void should_count_timeouts_as_failures_and_client_errors_as_successes() throws IOException {
+
+        when(request.getURI()).thenReturn(URI.create("http://notifications-api:8093/asylum/ccdAboutToSubmit"));
+        when(execution.execute(request, BODY))
+            .thenReturn(response)
+            .thenThrow(new SocketTimeoutException("Read timed out"));
+        when(response.getRawStatusCode()).thenReturn(400);
+
+        downstreamGuardInterceptor.intercept(request, BODY, execution).close();
+
+        assertThat(meterRegistry.get(DownstreamGuard.CALLS_COUNTER).tag("outcome", "success").counter().count())
+            .isEqualTo(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.CLOSED);
+
+        assertThatThrownBy(() -> downstreamGuardInterceptor.intercept(request, BODY, execution))
+            .isExactlyInstanceOf(SocketTimeoutException.class);
+
+        assertThat(meterRegistry.get(DownstreamGuard.CALLS_COUNTER).tag("outcome", "failure").counter().count())
+            .isEqualTo(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(DownstreamCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void should_reject_calls_over_concurrency_limit() throws Exception {
+
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(request.getURI()).thenReturn(URI.create("http://notifications-api:8093/asylum/ccdAboutToSubmit"));
+        when(execution.execute(any(), any())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+        when(response.getRawStatusCode()).thenReturn(200);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+
+            Future<ClientHttpResponse> slowCall =
+                executorService.submit(() -> downstreamGuardInterceptor.intercept(request, BODY, execution));
+
+            assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> downstreamGuardInterceptor.intercept(request, BODY, execution))
+                .isExactlyInstanceOf(DownstreamUnavailableException.class)
+                .hasMessage("Downstream notificationsApi already has 1 calls in flight");
+
+            release.countDown();
+
+            ClientHttpResponse slowResponse = slowCall.get(5, TimeUnit.SECONDS);
+
+            assertThat(slowResponse.getRawStatusCode()).isEqualTo(200);
+            assertThat(meterRegistry.get(DownstreamGuard.ACTIVE_CALLS_GAUGE).gauge().value()).isEqualTo(1);
+
+            slowResponse.close();
+
+            verify(response).close();
+            assertThat(meterRegistry.get(DownstreamGuard.ACTIVE_CALLS_GAUGE).gauge().value()).isEqualTo(0);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_hold_permit_until_response_is_closed() throws IOException {
+
+        when(request.getURI()).thenReturn(URI.create("http://notifications-api:8093/asylum/ccdAboutToSubmit"));
+        when(execution.execute(request, BODY)).thenReturn(response);
+        when(response.getRawStatusCode()).thenReturn(200);
+
+        ClientHttpResponse guardedResponse = downstreamGuardInterceptor.intercept(request, BODY, execution);
+
+        assertThatThrownBy(() -> downstreamGuardInterceptor.intercept(request, BODY, execution))
+            .isExactlyInstanceOf(DownstreamUnavailableException.class)
+            .hasMessage("Downstream notificationsApi already has 1 calls in flight");
+
+        guardedResponse.close();
+        guardedResponse.close();
+
+        assertThat(meterRegistry.get(DownstreamGuard.ACTIVE_CALLS_GAUGE).gauge().value()).isEqualTo(0);
+
+        downstreamGuardInterceptor.intercept(request, BODY, execution).close();
+
+        verify(execution, times(2)).execute(request, BODY);
+    }
+
+    @Test
+    void should_not_call_downstream_when_circuit_open() throws IOException {
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        when(request.getURI()).thenReturn(URI.create("http://notifications-api:8093/health"));
+
+        assertThatThrownBy(() -> downstreamGuardInterceptor.intercept(request, BODY, execution))
+            .isExactlyInstanceOf(DownstreamUnavailableException.class);
+
+        verify(execution, never()).execute(any(), any());
+    }
+}
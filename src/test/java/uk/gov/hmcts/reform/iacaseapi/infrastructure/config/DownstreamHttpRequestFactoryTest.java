@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Map;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.HttpContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+class DownstreamHttpRequestFactoryTest {
+
+    private final RequestConfig documentsApiRequestConfig = RequestConfig.custom()
+        .setConnectTimeout(1000)
+        .setSocketTimeout(120000)
+        .build();
+
+    private CloseableHttpClient httpClient;
+    private DownstreamHttpRequestFactory downstreamHttpRequestFactory;
+
+    @BeforeEach
+    public void setUp() {
+
+        httpClient = HttpClients.createDefault();
+        downstreamHttpRequestFactory = new DownstreamHttpRequestFactory(
+            httpClient,
+            Map.of(new HttpHost("documents-api", 8092, "http"), documentsApiRequestConfig)
+        );
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        downstreamHttpRequestFactory.destroy();
+    }
+
+    @Test
+    void should_apply_request_config_of_matching_downstream() {
+
+        HttpContext context = downstreamHttpRequestFactory.createHttpContext(
+            HttpMethod.POST,
+            URI.create("http://documents-api:8092/asylum/ccdAboutToSubmit")
+        );
+
+        assertThat(context).isInstanceOf(HttpClientContext.class);
+        assertThat(((HttpClientContext) context).getRequestConfig()).isSameAs(documentsApiRequestConfig);
+    }
+
+    @Test
+    void should_use_client_defaults_for_other_hosts() {
+
+        assertThat(downstreamHttpRequestFactory.createHttpContext(
+            HttpMethod.POST,
+            URI.create("http://notifications-api:8093/asylum/ccdAboutToSubmit")
+        )).isNull();
+
+        assertThat(downstreamHttpRequestFactory.createHttpContext(
+            HttpMethod.POST,
+            URI.create("http://documents-api:8093/asylum/ccdAboutToSubmit")
+        )).isNull();
+    }
+
+    @Test
+    void should_resolve_default_ports_from_scheme() {
+
+        assertThat(DownstreamHttpRequestFactory.toHttpHost(URI.create("https://ccd-data-store/cases")))
+            .isEqualTo(new HttpHost("ccd-data-store", 443, "https"));
+
+        assertThat(DownstreamHttpRequestFactory.toHttpHost(URI.create("http://CCD-Data-Store/cases")))
+            .isEqualTo(new HttpHost("ccd-data-store", 80, "http"));
+    }
+}
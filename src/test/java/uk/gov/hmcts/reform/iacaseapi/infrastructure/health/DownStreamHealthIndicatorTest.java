@@ -5,14 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.apache.http.HttpHost;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.DownstreamCircuitBreaker;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.DownstreamGuard;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.DownstreamGuardInterceptor;
 import uk.gov.hmcts.reform.iacaseapi.infrastructure.config.HealthCheckConfiguration;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,27 +34,76 @@ class DownStreamHealthIndicatorTest {
     @Mock
     HealthCheckConfiguration healthCheckConfiguration;
 
+    private final DownstreamGuardInterceptor downstreamGuardInterceptor =
+        new DownstreamGuardInterceptor(Collections.emptyList());
+
     private DownStreamHealthIndicator downStreamHealthIndicator;
 
     @Test
     void testGetContributor() {
         when(healthCheckConfiguration.getServices()).thenReturn(getHealthCheckConfiguration());
 
-        downStreamHealthIndicator = new DownStreamHealthIndicator(restTemplate, healthCheckConfiguration);
+        downStreamHealthIndicator = new DownStreamHealthIndicator(restTemplate, healthCheckConfiguration, downstreamGuardInterceptor, Runnable::run);
 
         assertNotNull(downStreamHealthIndicator.getContributor("service2"));
-        assertEquals(ServiceHealthIndicator.class, downStreamHealthIndicator.getContributor("service2").getClass());
+        assertEquals(CachedServiceHealthIndicator.class, downStreamHealthIndicator.getContributor("service2").getClass());
+    }
+
+    @Test
+    void should_build_own_probe_client_from_probe_timeout() {
+        when(healthCheckConfiguration.getServices()).thenReturn(getHealthCheckConfiguration());
+        when(healthCheckConfiguration.getProbeTimeoutInMillis()).thenReturn(500L);
+
+        downStreamHealthIndicator = new DownStreamHealthIndicator(healthCheckConfiguration, downstreamGuardInterceptor, Runnable::run);
+
+        assertNotNull(downStreamHealthIndicator.getContributor("service1"));
+        assertNotNull(downStreamHealthIndicator.getContributor("service2"));
     }
 
     @Test
     void should_throw_exception_when_services_list_is_null_or_empty() {
         when(healthCheckConfiguration.getServices()).thenReturn(null);
 
-        Assertions.assertThatThrownBy(() -> new DownStreamHealthIndicator(restTemplate, healthCheckConfiguration))
+        Assertions.assertThatThrownBy(() -> new DownStreamHealthIndicator(restTemplate, healthCheckConfiguration, downstreamGuardInterceptor, Runnable::run))
             .hasMessage("HealthCheckConfiguration cannot be null or empty")
             .isExactlyInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void should_report_circuit_breaker_of_each_downstream() {
+        when(healthCheckConfiguration.getServices()).thenReturn(getHealthCheckConfiguration());
+
+        DownstreamCircuitBreaker circuitBreaker = new DownstreamCircuitBreaker(50, 2, 2, 30, 1);
+        DownstreamGuard guard = new DownstreamGuard(
+            "notificationsApi",
+            new HttpHost("notifications-api", 8093, "http"),
+            5,
+            0,
+            circuitBreaker,
+            new SimpleMeterRegistry()
+        );
+
+        downStreamHealthIndicator = new DownStreamHealthIndicator(
+            restTemplate,
+            healthCheckConfiguration,
+            new DownstreamGuardInterceptor(List.of(guard)),
+            Runnable::run
+        );
+
+        HealthIndicator indicator = (HealthIndicator)
+            ((CompositeHealthContributor) downStreamHealthIndicator.getContributor(DownStreamHealthIndicator.CIRCUIT_BREAKERS))
+                .getContributor("notificationsApi");
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(5, indicator.health().getDetails().get("maxConcurrentCalls"));
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        assertEquals(DownstreamCircuitBreaker.State.OPEN, indicator.health().getDetails().get("state"));
+    }
+
     private Map<String, Map<String, String>> getHealthCheckConfiguration() {
 
         Map<String, Map<String, String>> services = new HashMap<String, Map<String, String>>();
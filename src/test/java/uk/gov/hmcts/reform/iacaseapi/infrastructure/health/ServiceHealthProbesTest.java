@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+class ServiceHealthProbesTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger documentsApiProbes = new AtomicInteger();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void should_probe_once_and_answer_from_cache_within_time_to_live() {
+
+        ServiceHealthProbes serviceHealthProbes = new ServiceHealthProbes(
+            Map.of("documentsApi", countingProbe(Health.up().build())),
+            Runnable::run,
+            10,
+            1000,
+            nanoTime::get
+        );
+
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.UP);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(9));
+
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.UP);
+        assertThat(serviceHealthProbes.health("unknownApi").getStatus()).isEqualTo(Status.UNKNOWN);
+        assertThat(documentsApiProbes.get()).isEqualTo(1);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        serviceHealthProbes.health("documentsApi");
+
+        assertThat(documentsApiProbes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_return_previous_result_while_refreshing_in_background() throws InterruptedException {
+
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+
+        HealthIndicator probe = () -> {
+            if (documentsApiProbes.incrementAndGet() == 1) {
+                return Health.up().build();
+            }
+            refreshStarted.countDown();
+            await(releaseRefresh);
+            return Health.down().build();
+        };
+
+        ServiceHealthProbes serviceHealthProbes = new ServiceHealthProbes(
+            Map.of("documentsApi", probe),
+            executorService,
+            10,
+            5000,
+            nanoTime::get
+        );
+
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.UP);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.UP);
+        assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.UP);
+        assertThat(documentsApiProbes.get()).isEqualTo(2);
+
+        releaseRefresh.countDown();
+    }
+
+    @Test
+    void should_probe_services_in_parallel_and_report_slow_ones_down() {
+
+        CountDownLatch neverReleased = new CountDownLatch(1);
+
+        Map<String, HealthIndicator> probes = new LinkedHashMap<>();
+        probes.put("slowApi", () -> {
+            await(neverReleased);
+            return Health.up().build();
+        });
+        probes.put("documentsApi", countingProbe(Health.up().build()));
+
+        ServiceHealthProbes serviceHealthProbes = new ServiceHealthProbes(probes, executorService, 10, 200, nanoTime::get);
+
+        long startedAt = System.nanoTime();
+
+        Health slowApi = serviceHealthProbes.health("slowApi");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5000);
+        assertThat(slowApi.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(slowApi.getDetails()).containsEntry("error", "No answer within 200ms");
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void should_report_failing_probe_down() {
+
+        ServiceHealthProbes serviceHealthProbes = new ServiceHealthProbes(
+            Map.<String, HealthIndicator>of("documentsApi", () -> {
+                throw new IllegalStateException("boom");
+            }),
+            Runnable::run,
+            10,
+            1000,
+            nanoTime::get
+        );
+
+        assertThat(serviceHealthProbes.health("documentsApi").getStatus()).isEqualTo(Status.DOWN);
+    }
+
+    @Test
+    void should_report_probe_down_when_executor_rejects_it() {
+
+        ServiceHealthProbes serviceHealthProbes = new ServiceHealthProbes(
+            Map.of("documentsApi", countingProbe(Health.up().build())),
+            command -> {
+                throw new RejectedExecutionException("full");
+            },
+            10,
+            1000,
+            nanoTime::get
+        );
+
+        Health documentsApi = serviceHealthProbes.health("documentsApi");
+
+        assertThat(documentsApi.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(documentsApi.getDetails()).containsEntry("error", "Probe could not be queued");
+        assertThat(documentsApiProbes.get()).isZero();
+    }
+
+    private HealthIndicator countingProbe(Health health) {
+        return () -> {
+            documentsApiProbes.incrementAndGet();
+            return health;
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
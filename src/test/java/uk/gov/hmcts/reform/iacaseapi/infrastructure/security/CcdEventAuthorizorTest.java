@@ -3,12 +3,15 @@ package uk.gov.hmcts.reform.iacaseapi.infrastructure.security;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -82,4 +85,46 @@ class CcdEventAuthorizorTest {
         );
         assertEquals("Event 'unknown' not allowed", thrown.getMessage());
     }
+
+    @Test
+    void should_authorize_any_role_that_can_access_the_event() {
+
+        Map<String, List<Event>> roleEventAccess = new ImmutableMap.Builder<String, List<Event>>()
+            .put(role, newArrayList(Event.START_APPEAL))
+            .put("caseworker-ia-legalrep-solicitor", newArrayList(Event.START_APPEAL, Event.SUBMIT_APPEAL))
+            .build();
+
+        ccdEventAuthorizor = new CcdEventAuthorizor(roleEventAccess, authorizedRolesProvider);
+
+        when(authorizedRolesProvider.getRoles()).thenReturn(newHashSet("caseworker-ia-legalrep-solicitor"));
+
+        ccdEventAuthorizor.throwIfNotAuthorized(Event.START_APPEAL);
+        ccdEventAuthorizor.throwIfNotAuthorized(Event.SUBMIT_APPEAL);
+
+        when(authorizedRolesProvider.getRoles()).thenReturn(newHashSet(role));
+
+        AccessDeniedException thrown = assertThrows(
+            AccessDeniedException.class,
+            () -> ccdEventAuthorizor.throwIfNotAuthorized(Event.SUBMIT_APPEAL)
+        );
+        assertEquals("Event 'submitAppeal' not allowed", thrown.getMessage());
+    }
+
+    @Test
+    void should_report_events_no_role_can_access() {
+
+        ccdEventAuthorizor = new CcdEventAuthorizor(
+            new ImmutableMap.Builder<String, List<Event>>()
+                .put(role, newArrayList(Event.START_APPEAL))
+                .build(),
+            authorizedRolesProvider
+        );
+
+        Set<Event> inaccessibleEvents = ccdEventAuthorizor.getInaccessibleEvents();
+
+        assertEquals(Event.values().length - 2, inaccessibleEvents.size());
+        assertFalse(inaccessibleEvents.contains(Event.START_APPEAL));
+        assertFalse(inaccessibleEvents.contains(Event.UNKNOWN));
+        assertTrue(inaccessibleEvents.contains(Event.SUBMIT_APPEAL));
+    }
 }
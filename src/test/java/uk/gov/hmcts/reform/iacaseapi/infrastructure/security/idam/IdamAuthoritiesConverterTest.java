@@ -9,6 +9,7 @@ import static uk.gov.hmcts.reform.iacaseapi.infrastructure.security.idam.IdamAut
 
 import com.google.common.collect.Lists;
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -59,7 +60,7 @@ class IdamAuthoritiesConverterTest {
         when(userInfo.getRoles()).thenReturn(Lists.newArrayList("caseworker-ia", "caseworker-ia-caseofficer"));
         when(idamApi.userInfo("Bearer " + tokenValue)).thenReturn(userInfo);
 
-        idamAuthoritiesConverter = new IdamAuthoritiesConverter(idamApi);
+        idamAuthoritiesConverter = new IdamAuthoritiesConverter(new IdamUserInfoCache(idamApi, 60, 100, new SimpleMeterRegistry()));
 
         List<GrantedAuthority> expectedGrantedAuthorities = Lists.newArrayList(
             new SimpleGrantedAuthority("caseworker-ia"),
@@ -76,7 +77,7 @@ class IdamAuthoritiesConverterTest {
     @Test
     void should_return_empty_list_when_token_is_missing() {
 
-        idamAuthoritiesConverter = new IdamAuthoritiesConverter(idamApi);
+        idamAuthoritiesConverter = new IdamAuthoritiesConverter(new IdamUserInfoCache(idamApi, 60, 100, new SimpleMeterRegistry()));
 
         assertEquals(Collections.emptyList(), idamAuthoritiesConverter.convert(jwt));
     }
@@ -87,7 +88,7 @@ class IdamAuthoritiesConverterTest {
         when(userInfo.getRoles()).thenReturn(Lists.newArrayList());
         when(idamApi.userInfo("Bearer " + tokenValue)).thenReturn(userInfo);
 
-        idamAuthoritiesConverter = new IdamAuthoritiesConverter(idamApi);
+        idamAuthoritiesConverter = new IdamAuthoritiesConverter(new IdamUserInfoCache(idamApi, 60, 100, new SimpleMeterRegistry()));
 
         when(jwt.hasClaim(TOKEN_NAME)).thenReturn(true);
         when(jwt.getClaim(TOKEN_NAME)).thenReturn(ACCESS_TOKEN);
@@ -105,7 +106,7 @@ class IdamAuthoritiesConverterTest {
         when(jwt.getClaim(TOKEN_NAME)).thenReturn(ACCESS_TOKEN);
         when(jwt.getTokenValue()).thenReturn(tokenValue);
 
-        idamAuthoritiesConverter = new IdamAuthoritiesConverter(idamApi);
+        idamAuthoritiesConverter = new IdamAuthoritiesConverter(new IdamUserInfoCache(idamApi, 60, 100, new SimpleMeterRegistry()));
 
         IdentityManagerResponseException thrown = assertThrows(
             IdentityManagerResponseException.class,
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.security.idam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.IdamApi;
+import uk.gov.hmcts.reform.iacaseapi.infrastructure.clients.model.idam.UserInfo;
+
+@ExtendWith(MockitoExtension.class)
+class IdamUserInfoCacheTest {
+
+    private static final String ACCESS_TOKEN = "ABCDEFG";
+
+    @Mock
+    private IdamApi idamApi;
+    @Mock
+    private UserInfo userInfo;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdamUserInfoCache idamUserInfoCache;
+
+    @BeforeEach
+    public void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        idamUserInfoCache = new IdamUserInfoCache(idamApi, 60, 100, meterRegistry);
+    }
+
+    @Test
+    void should_share_user_info_for_the_same_token_with_or_without_bearer_prefix() {
+
+        when(idamApi.userInfo("Bearer " + ACCESS_TOKEN)).thenReturn(userInfo);
+
+        assertThat(idamUserInfoCache.getUserInfo("Bearer " + ACCESS_TOKEN)).isSameAs(userInfo);
+        assertThat(idamUserInfoCache.getUserInfo(ACCESS_TOKEN)).isSameAs(userInfo);
+        assertThat(idamUserInfoCache.getUserInfo("Bearer " + ACCESS_TOKEN)).isSameAs(userInfo);
+
+        verify(idamApi, times(1)).userInfo("Bearer " + ACCESS_TOKEN);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", IdamUserInfoCache.CACHE_NAME).tag("result", "hit")
+            .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", IdamUserInfoCache.CACHE_NAME).tag("result", "miss")
+            .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_cache_failed_lookups() {
+
+        when(idamApi.userInfo(ACCESS_TOKEN))
+            .thenThrow(FeignException.class)
+            .thenReturn(userInfo);
+
+        assertThatThrownBy(() -> idamUserInfoCache.getUserInfo(ACCESS_TOKEN))
+            .isInstanceOf(FeignException.class);
+
+        assertThat(idamUserInfoCache.getUserInfo(ACCESS_TOKEN)).isSameAs(userInfo);
+
+        verify(idamApi, times(2)).userInfo(ACCESS_TOKEN);
+    }
+
+    @Test
+    void should_not_share_user_info_between_tokens() {
+
+        UserInfo otherUserInfo = new UserInfo();
+
+        when(idamApi.userInfo(ACCESS_TOKEN)).thenReturn(userInfo);
+        when(idamApi.userInfo("HIJKLMN")).thenReturn(otherUserInfo);
+
+        assertThat(idamUserInfoCache.getUserInfo(ACCESS_TOKEN)).isSameAs(userInfo);
+        assertThat(idamUserInfoCache.getUserInfo("HIJKLMN")).isSameAs(otherUserInfo);
+    }
+}
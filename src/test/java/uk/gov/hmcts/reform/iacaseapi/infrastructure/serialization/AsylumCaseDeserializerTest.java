@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPELLANT_GIVEN_NAMES;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.CASE_NOTES;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.CaseNote;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.IdValue;
+
+class AsylumCaseDeserializerTest {
+
+    private static final String CASE_DATA = "{"
+        + "\"appellantGivenNames\":\"Jane\","
+        + "\"someUnknownField\":{\"nested\":[1,2]},"
+        + "\"appellantFamilyName\":null,"
+        + "\"caseNotes\":[{\"id\":\"1\",\"value\":{"
+        + "\"caseNoteSubject\":\"subject\","
+        + "\"caseNoteDescription\":\"description\","
+        + "\"user\":\"Case Officer\","
+        + "\"dateAdded\":\"2020-01-01\"}}]"
+        + "}";
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new SimpleModule().addDeserializer(AsylumCase.class, new AsylumCaseDeserializer()));
+
+    @Test
+    void should_keep_collection_fields_buffered_until_read() throws IOException {
+
+        AsylumCase asylumCase = mapper.readValue(CASE_DATA, AsylumCase.class);
+
+        assertThat(asylumCase.get(CASE_NOTES.value())).isInstanceOf(LazyJsonValue.class);
+        assertThat(asylumCase.get(APPELLANT_GIVEN_NAMES.value())).isEqualTo("Jane");
+        assertThat(asylumCase).containsEntry("appellantFamilyName", null);
+        assertThat(asylumCase.get("someUnknownField")).isInstanceOf(Map.class);
+
+        Optional<List<IdValue<CaseNote>>> caseNotes = asylumCase.read(CASE_NOTES);
+
+        assertThat(caseNotes.get()).hasSize(1);
+        assertThat(caseNotes.get().get(0).getId()).isEqualTo("1");
+        assertThat(caseNotes.get().get(0).getValue().getCaseNoteSubject()).isEqualTo("subject");
+        assertThat(asylumCase.<List<IdValue<CaseNote>>>read(CASE_NOTES).get().get(0)).isSameAs(caseNotes.get().get(0));
+    }
+
+    @Test
+    void should_write_buffered_fields_back_unchanged() throws IOException {
+
+        AsylumCase asylumCase = mapper.readValue(CASE_DATA, AsylumCase.class);
+
+        JsonNode expected = mapper.readTree(CASE_DATA);
+
+        assertThat(mapper.readTree(mapper.writeValueAsString(asylumCase))).isEqualTo(expected);
+        assertThat(mapper.readValue(CASE_DATA, AsylumCase.class)).isEqualTo(asylumCase);
+    }
+}
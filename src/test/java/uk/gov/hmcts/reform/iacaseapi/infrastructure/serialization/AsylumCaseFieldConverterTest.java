@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPEAL_TYPE;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.APPELLANT_ADDRESS;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AppealType;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.AddressUk;
+
+class AsylumCaseFieldConverterTest {
+
+    @Test
+    void should_convert_raw_values_to_field_types() {
+
+        Map<String, Object> address = new HashMap<>();
+        address.put("AddressLine1", "1 Some Street");
+        address.put("PostCode", "M1 1AA");
+
+        AddressUk actualAddress = (AddressUk) AsylumCaseFieldConverter.convert(APPELLANT_ADDRESS, address);
+
+        assertThat(actualAddress.getAddressLine1()).contains("1 Some Street");
+        assertThat(actualAddress.getPostCode()).contains("M1 1AA");
+        assertThat(AsylumCaseFieldConverter.convert(APPEAL_TYPE, "protection")).isEqualTo(AppealType.PA);
+    }
+
+    @Test
+    void should_warm_up_all_field_types() {
+
+        assertThatCode(AsylumCaseFieldConverter::warmUp).doesNotThrowAnyException();
+    }
+}
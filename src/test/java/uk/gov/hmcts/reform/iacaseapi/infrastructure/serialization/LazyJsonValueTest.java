@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.iacaseapi.infrastructure.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCaseFieldDefinition.CASE_NOTES;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.CaseNote;
+import uk.gov.hmcts.reform.iacaseapi.domain.entities.ccd.field.IdValue;
+
+class LazyJsonValueTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void should_compare_by_json_content() throws IOException {
+
+        LazyJsonValue value = lazyJsonValue("[{\"id\":\"1\",\"value\":{\"a\":1,\"b\":2}}]");
+        LazyJsonValue sameContent = lazyJsonValue("[{\"value\":{\"b\":2,\"a\":1},\"id\":\"1\"}]");
+        LazyJsonValue otherContent = lazyJsonValue("[{\"id\":\"2\",\"value\":{\"a\":1,\"b\":2}}]");
+
+        assertThat(value).isEqualTo(sameContent);
+        assertThat(value.hashCode()).isEqualTo(sameContent.hashCode());
+        assertThat(value.hashCode()).isEqualTo(value.hashCode());
+        assertThat(value).isNotEqualTo(otherContent);
+        assertThat(value.toString()).isEqualTo("[{\"id\":\"1\",\"value\":{\"a\":1,\"b\":2}}]");
+    }
+
+    @Test
+    void should_still_bind_after_being_compared() throws IOException {
+
+        LazyJsonValue value = lazyJsonValue("[{\"id\":\"1\"}]");
+
+        assertThat(value).isEqualTo(lazyJsonValue("[{\"id\":\"1\"}]"));
+
+        assertThat(value.bind(mapper, mapper.getTypeFactory().constructType(List.class)))
+            .isEqualTo(List.of(Map.of("id", "1")));
+    }
+
+    @Test
+    void should_bind_itself_when_read_from_case_data() throws IOException {
+
+        AsylumCase asylumCase = new AsylumCase();
+        asylumCase.put(CASE_NOTES.value(), lazyJsonValue("[{\"id\":\"1\",\"value\":{"
+            + "\"caseNoteSubject\":\"subject\","
+            + "\"caseNoteDescription\":\"description\","
+            + "\"user\":\"Case Officer\","
+            + "\"dateAdded\":\"2020-01-01\"}}]"));
+
+        Optional<List<IdValue<CaseNote>>> caseNotes = asylumCase.read(CASE_NOTES);
+
+        assertThat(caseNotes.get()).hasSize(1);
+        assertThat(caseNotes.get().get(0).getValue().getCaseNoteSubject()).isEqualTo("subject");
+    }
+
+    private LazyJsonValue lazyJsonValue(String json) throws IOException {
+
+        try (JsonParser parser = mapper.createParser(json)) {
+            parser.nextToken();
+            return new LazyJsonValue(TokenBuffer.asCopyOfValue(parser));
+        }
+    }
+}